@@ -0,0 +1,66 @@
+package reqres_api.bench;
+
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reqres_api.user.UserData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two extraction styles used by the API tests on a {@code /api/users} page:
+ * POJO mapping as in {@code ReqresPojoTest} and GPath lookups as in {@code ReqresNoPojoTest}.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; the default {@code -prof gc} adds allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonExtractionBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    private int users;
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        body = ReqresPayloads.usersPage(users);
+    }
+
+    /**
+     * {@code extract().body().jsonPath().getList("data", UserData.class)}
+     */
+    @Benchmark
+    public List<UserData> pojo() {
+        return JsonPath.from(body).getList("data", UserData.class);
+    }
+
+    /**
+     * {@code jsonPath.get("data.email")}, {@code "data.id"} and {@code "data.avatar"} on one response.
+     */
+    @Benchmark
+    public void gpath(Blackhole blackhole) {
+        JsonPath jsonPath = JsonPath.from(body);
+        List<String> emails = jsonPath.get("data.email");
+        List<Integer> ids = jsonPath.get("data.id");
+        List<String> avatars = jsonPath.get("data.avatar");
+        blackhole.consume(emails);
+        blackhole.consume(ids);
+        blackhole.consume(avatars);
+    }
+}
@@ -0,0 +1,97 @@
+package reqres_api.bench;
+
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reqres_api.path.JsonBodyMatcher;
+import reqres_api.path.JsonDocument;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Compares GPath lookups with {@link JsonDocument} compiled paths on a {@code /api/users} page,
+ * both including the parse of the body, for the lookups {@code ReqresNoPojoTest} makes.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="PathExtraction -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathExtractionBenchmark {
+
+    @Param({"6", "1000", "100000"})
+    private int users;
+
+    private String body;
+    private JsonBodyMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        body = ReqresPayloads.usersPage(users);
+        matcher = JsonBodyMatcher.jsonBody()
+                .with("page", equalTo(1))
+                .with("data[0].email", notNullValue());
+    }
+
+    /**
+     * {@code jsonPath.get("data.email")}, {@code "data.id"} and {@code "data.avatar"} on one response.
+     */
+    @Benchmark
+    public void gpathProjections(Blackhole blackhole) {
+        JsonPath jsonPath = JsonPath.from(body);
+        List<String> emails = jsonPath.get("data.email");
+        List<Integer> ids = jsonPath.get("data.id");
+        List<String> avatars = jsonPath.get("data.avatar");
+        blackhole.consume(emails);
+        blackhole.consume(ids);
+        blackhole.consume(avatars);
+    }
+
+    /**
+     * The same three projections through {@link JsonDocument}.
+     */
+    @Benchmark
+    public void compiledProjections(Blackhole blackhole) {
+        JsonDocument json = JsonDocument.parse(body);
+        List<String> emails = json.get("data.email");
+        List<Integer> ids = json.get("data.id");
+        List<String> avatars = json.get("data.avatar");
+        blackhole.consume(emails);
+        blackhole.consume(ids);
+        blackhole.consume(avatars);
+    }
+
+    /**
+     * {@code then().body("page", ...).body("data[0].email", ...)}: two GPath evaluations.
+     */
+    @Benchmark
+    public boolean gpathBodyChecks() {
+        JsonPath jsonPath = JsonPath.from(body);
+        return equalTo(1).matches(jsonPath.get("page")) && notNullValue().matches(jsonPath.get("data[0].email"));
+    }
+
+    /**
+     * The same checks through one {@link JsonBodyMatcher}.
+     */
+    @Benchmark
+    public boolean compiledBodyChecks() {
+        return matcher.matches(body);
+    }
+}
@@ -0,0 +1,60 @@
+package reqres_api.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reqres-shaped {@code /api/users} pages of any size, built by repeating the recorded users
+ * from {@code stub/users.json} with fresh ids (avatars and emails keep matching their ids).
+ */
+public final class ReqresPayloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ReqresPayloads() {
+    }
+
+    public static String usersPage(int size) {
+        List<Map<String, Object>> recorded = recordedUsers();
+        List<Map<String, Object>> data = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            Map<String, Object> source = recorded.get((id - 1) % recorded.size());
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", id);
+            user.put("email", id + "." + source.get("email"));
+            user.put("first_name", source.get("first_name"));
+            user.put("last_name", source.get("last_name"));
+            user.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+            data.add(user);
+        }
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("page", 1);
+        page.put("per_page", size);
+        page.put("total", size);
+        page.put("total_pages", 1);
+        page.put("data", data);
+        try {
+            return MAPPER.writeValueAsString(page);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Map<String, Object>> recordedUsers() {
+        try (InputStream in = ReqresPayloads.class.getClassLoader().getResourceAsStream("stub/users.json")) {
+            return MAPPER.readValue(in, new TypeReference<>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
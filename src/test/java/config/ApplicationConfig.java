@@ -2,7 +2,18 @@ package config;
 
 import org.aeonbits.owner.Config;
 
-@Config.Sources("classpath:application.properties")  // Directly load from application.properties
+import java.util.List;
+
+/**
+ * Test configuration. Sources are merged, first match wins: system properties, then the profile
+ * selected with {@code -Denv=<name>} ({@code application-<name>.properties}), then application.properties.
+ */
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({
+        "system:properties",                        // -Dkey=value overrides the files
+        "classpath:application-${env}.properties",  // per-environment profile, e.g. -Denv=ci
+        "classpath:application.properties"          // Directly load from application.properties
+})
 public interface ApplicationConfig extends Config {
 
     @Key("url")
@@ -10,4 +21,175 @@ public interface ApplicationConfig extends Config {
 
     @Key("api")
     String api();
+
+    /**
+     * Run the API tests against the in-process reqres stub instead of {@link #url()}.
+     */
+    @Key("stub")
+    @DefaultValue("false")
+    boolean stub();
+
+    /**
+     * Let the stub simulate {@code delay} by advancing a virtual clock instead of waiting.
+     */
+    @Key("stub.virtual.time")
+    @DefaultValue("false")
+    boolean stubVirtualTime();
+
+    @Key("http.max.connections")
+    @DefaultValue("50")
+    int httpMaxConnections();
+
+    @Key("http.max.connections.per.route")
+    @DefaultValue("20")
+    int httpMaxConnectionsPerRoute();
+
+    /**
+     * How long an idle pooled connection may be kept open for reuse.
+     */
+    @Key("http.keep.alive.millis")
+    @DefaultValue("30000")
+    long httpKeepAliveMillis();
+
+    @Key("http.connect.timeout.millis")
+    @DefaultValue("5000")
+    int httpConnectTimeoutMillis();
+
+    @Key("http.socket.timeout.millis")
+    @DefaultValue("30000")
+    int httpSocketTimeoutMillis();
+
+    /**
+     * Requests per second started by the load test ({@code mvn test -Pload}).
+     */
+    @Key("load.rate")
+    @DefaultValue("50")
+    int loadRate();
+
+    @Key("load.duration.seconds")
+    @DefaultValue("10")
+    int loadDurationSeconds();
+
+    /**
+     * Request/response pairs kept per test and printed only if it fails.
+     */
+    @Key("log.buffer.size")
+    @DefaultValue("10")
+    int logBufferSize();
+
+    /**
+     * Characters of each logged body kept in the failure log.
+     */
+    @Key("log.body.limit")
+    @DefaultValue("4096")
+    int logBodyLimit();
+
+    /**
+     * Keep the browser open between UI tests and only reset its cookies and storage.
+     */
+    @Key("browser.reuse")
+    @DefaultValue("true")
+    boolean browserReuse();
+
+    /**
+     * Browsers open at once for parallel UI tests, 0 for one per CPU core.
+     */
+    @Key("browser.pool.size")
+    @DefaultValue("0")
+    int browserPoolSize();
+
+    /**
+     * Tests a pooled browser serves before it is replaced with a fresh one.
+     */
+    @Key("browser.pool.recycle.after")
+    @DefaultValue("20")
+    int browserPoolRecycleAfter();
+
+    @Key("browser.headless")
+    @DefaultValue("true")
+    boolean browserHeadless();
+
+    @Key("browser.size")
+    @DefaultValue("1920x1080")
+    String browserSize();
+
+    /**
+     * {@code eager} returns from navigation at DOMContentLoaded instead of waiting for images and ads.
+     */
+    @Key("browser.page.load.strategy")
+    @DefaultValue("eager")
+    String browserPageLoadStrategy();
+
+    /**
+     * Extra Chrome command line switches, comma separated.
+     */
+    @Key("browser.chrome.args")
+    @DefaultValue("")
+    List<String> browserChromeArgs();
+
+    @Key("demoqa.url")
+    @DefaultValue("https://demoqa.com/")
+    String demoqaUrl();
+
+    /**
+     * Run the UI tests against the local copy of the demoqa pages instead of {@link #demoqaUrl()}.
+     */
+    @Key("demoqa.stub")
+    @DefaultValue("false")
+    boolean demoqaStub();
+
+    /**
+     * Screenshot attachments: {@code jpeg} recompresses to fit {@link #screenshotMaxBytes()}, {@code png} keeps the original.
+     */
+    @Key("screenshot.format")
+    @DefaultValue("jpeg")
+    String screenshotFormat();
+
+    @Key("screenshot.max.width")
+    @DefaultValue("1280")
+    int screenshotMaxWidth();
+
+    @Key("screenshot.max.bytes")
+    @DefaultValue("150000")
+    int screenshotMaxBytes();
+
+    /**
+     * Records in the pre-generated UI test data pool.
+     */
+    @Key("data.pool.size")
+    @DefaultValue("500")
+    int dataPoolSize();
+
+    /**
+     * Seed of the UI test data pool; the same seed gives the same records.
+     */
+    @Key("data.pool.seed")
+    @DefaultValue("20240101")
+    long dataPoolSeed();
+
+    /**
+     * OFF, RECORD the API responses of each test class to a cassette, or REPLAY them from it.
+     * Kept as text so the config package does not depend on the API tests, see {@code CassetteMode.of}.
+     */
+    @Key("cassette.mode")
+    @DefaultValue("OFF")
+    String cassetteMode();
+
+    @Key("cassette.dir")
+    @DefaultValue("src/test/resources/cassettes")
+    String cassetteDir();
+
+    /**
+     * Contract cases executed ahead of the one being reported by the contract runner.
+     */
+    @Key("contract.concurrency")
+    @DefaultValue("8")
+    int contractConcurrency();
+
+    /**
+     * Reload the configuration when a properties file changes, see {@link ConfigProvider}.
+     */
+    @Key("config.reload")
+    @DefaultValue("false")
+    boolean configReload();
 }
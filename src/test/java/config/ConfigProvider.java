@@ -2,15 +2,92 @@ package config;
 
 import org.aeonbits.owner.ConfigFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Holds the current {@link ConfigSnapshot}.
+ * <p>
+ * The configuration is resolved once (system properties, the {@code -Denv=<name>} profile, application.properties)
+ * and served as an immutable snapshot, so {@link #getConfig()} on a hot path is a volatile field read.
+ * With {@code config.reload = true} the directory holding application.properties is watched and a new snapshot
+ * is swapped in whenever an {@code application*.properties} file changes. Values already used to build
+ * long-lived objects (the HTTP client pool, the browser pool) keep their startup values.
+ */
 public class ConfigProvider {
 
-    private static final ApplicationConfig CONFIG = ConfigFactory.create(ApplicationConfig.class);
+    private static volatile ConfigSnapshot config = load();
+
+    static {
+        if (config.configReload()) {
+            watch();
+        }
+    }
 
     private ConfigProvider() {
         // Private constructor to prevent instantiation
     }
 
     public static ApplicationConfig getConfig() {
-        return CONFIG;
+        return config;
+    }
+
+    /**
+     * Resolves the configuration again, e.g. after changing a system property.
+     */
+    public static ApplicationConfig reload() {
+        config = load();
+        return config;
+    }
+
+    private static ConfigSnapshot load() {
+        return ConfigSnapshot.of(ConfigFactory.create(ApplicationConfig.class));
+    }
+
+    private static void watch() {
+        URL resource = ConfigProvider.class.getClassLoader().getResource("application.properties");
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return;
+        }
+        try {
+            Path dir = Path.of(resource.toURI()).getParent();
+            WatchService watcher = FileSystems.getDefault().newWatchService();
+            dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread thread = new Thread(() -> reloadOnChange(watcher), "config-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch the configuration directory", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void reloadOnChange(WatchService watcher) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    String file = String.valueOf(event.context());
+                    changed |= file.startsWith("application") && file.endsWith(".properties");
+                }
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // watcher stopped, keep the last snapshot
+        }
     }
 }
@@ -0,0 +1,40 @@
+package config;
+
+import org.aeonbits.owner.ConfigFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import java.lang.reflect.Method;
+
+public class ConfigProviderTest {
+
+    @Test
+    @DisplayName("Snapshot holds the same values as the OWNER config")
+    public void snapshotMatchesProxy() throws ReflectiveOperationException {
+        ApplicationConfig proxy = ConfigFactory.create(ApplicationConfig.class);
+        ApplicationConfig snapshot = ConfigSnapshot.of(proxy);
+
+        for (Method method : ApplicationConfig.class.getDeclaredMethods()) {
+            Assertions.assertEquals(method.invoke(proxy), method.invoke(snapshot), method.getName());
+        }
+    }
+
+    @Test
+    @ResourceLock(Resources.SYSTEM_PROPERTIES)
+    @DisplayName("Reload picks up a changed system property")
+    public void reloadSeesSystemProperty() {
+        int configured = ConfigProvider.getConfig().loadRate();
+        System.setProperty("load.rate", String.valueOf(configured + 1));
+        try {
+            Assertions.assertEquals(configured, ConfigProvider.getConfig().loadRate());
+            Assertions.assertEquals(configured + 1, ConfigProvider.reload().loadRate());
+        } finally {
+            System.clearProperty("load.rate");
+            ConfigProvider.reload();
+        }
+        Assertions.assertEquals(configured, ConfigProvider.getConfig().loadRate());
+    }
+}
@@ -0,0 +1,78 @@
+package config;
+
+import java.util.List;
+
+/**
+ * Immutable copy of an {@link ApplicationConfig}: every value is resolved and converted once,
+ * so reading it is a plain field access instead of a call through OWNER's proxy.
+ */
+public record ConfigSnapshot(
+        String url,
+        String api,
+        boolean stub,
+        boolean stubVirtualTime,
+        int httpMaxConnections,
+        int httpMaxConnectionsPerRoute,
+        long httpKeepAliveMillis,
+        int httpConnectTimeoutMillis,
+        int httpSocketTimeoutMillis,
+        int loadRate,
+        int loadDurationSeconds,
+        int logBufferSize,
+        int logBodyLimit,
+        boolean browserReuse,
+        int browserPoolSize,
+        int browserPoolRecycleAfter,
+        boolean browserHeadless,
+        String browserSize,
+        String browserPageLoadStrategy,
+        List<String> browserChromeArgs,
+        String demoqaUrl,
+        boolean demoqaStub,
+        String screenshotFormat,
+        int screenshotMaxWidth,
+        int screenshotMaxBytes,
+        int dataPoolSize,
+        long dataPoolSeed,
+        String cassetteMode,
+        String cassetteDir,
+        int contractConcurrency,
+        boolean configReload
+) implements ApplicationConfig {
+
+    public static ConfigSnapshot of(ApplicationConfig source) {
+        return new ConfigSnapshot(
+                source.url(),
+                source.api(),
+                source.stub(),
+                source.stubVirtualTime(),
+                source.httpMaxConnections(),
+                source.httpMaxConnectionsPerRoute(),
+                source.httpKeepAliveMillis(),
+                source.httpConnectTimeoutMillis(),
+                source.httpSocketTimeoutMillis(),
+                source.loadRate(),
+                source.loadDurationSeconds(),
+                source.logBufferSize(),
+                source.logBodyLimit(),
+                source.browserReuse(),
+                source.browserPoolSize(),
+                source.browserPoolRecycleAfter(),
+                source.browserHeadless(),
+                source.browserSize(),
+                source.browserPageLoadStrategy(),
+                List.copyOf(source.browserChromeArgs()),
+                source.demoqaUrl(),
+                source.demoqaStub(),
+                source.screenshotFormat(),
+                source.screenshotMaxWidth(),
+                source.screenshotMaxBytes(),
+                source.dataPoolSize(),
+                source.dataPoolSeed(),
+                source.cassetteMode(),
+                source.cassetteDir(),
+                source.contractConcurrency(),
+                source.configReload()
+        );
+    }
+}
@@ -1,45 +1,102 @@
 package demoqa_ui;
 
-import com.codeborne.selenide.Configuration;
-import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.WebDriverRunner;
 import com.codeborne.selenide.logevents.SelenideLogger;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import config.ApplicationConfig;
+import demoqa_ui.screenshots.ScreenshotOnFailure;
+import demoqa_ui.screenshots.ScreenshotPipeline;
+import config.ConfigProvider;
 import io.qameta.allure.selenide.AllureSelenide;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.openqa.selenium.chrome.ChromeOptions;
 
 /**
- * Базовый класс для инициализации селенида
+ * Базовый класс для инициализации селенида.
+ * <p>
+ * Каждый тест получает свой {@link SelenideDriver} из общего {@link BrowserPool}, поэтому UI тесты
+ * могут выполняться параллельно. Настройки браузера задаются через {@link SelenideConfig}, а не через
+ * статический Configuration. При {@code browser.reuse = true} браузер переиспользуется следующими тестами
+ * после очистки cookies и storage.
  */
 abstract public class BaseSelenideTest {
 
+    private static final String ALLURE_LISTENER = "AllureSelenide";
+    private static final String SCREENSHOT_LISTENER = "ScreenshotOnFailure";
+    private static final BrowserPool POOL = createPool(ConfigProvider.getConfig());
+    private static final ThreadLocal<BrowserPool.Lease> LEASE = new ThreadLocal<>();
+
+    private static BrowserPool createPool(ApplicationConfig config) {
+        int size = config.browserPoolSize() > 0 ? config.browserPoolSize() : Runtime.getRuntime().availableProcessors();
+        int recycleAfter = config.browserReuse() ? config.browserPoolRecycleAfter() : 1;
+        return new BrowserPool(size, recycleAfter, BaseSelenideTest::browserConfig);
+    }
+
+    /**
+     * Настройки нового браузера пула из ApplicationConfig (headless, размер окна, стратегия загрузки, флаги Chrome)
+     */
+    protected static SelenideConfig browserConfig() {
+        ApplicationConfig config = ConfigProvider.getConfig();
+        ChromeOptions options = new ChromeOptions();
+        config.browserChromeArgs().stream()
+                .filter(arg -> !arg.isBlank())
+                .forEach(options::addArguments);
+        return new SelenideConfig()
+                .browser("chrome")
+                .driverManagerEnabled(false) // chromedriver уже найден пулом
+                .browserSize(config.browserSize())
+                .headless(config.browserHeadless())
+                .pageLoadStrategy(config.browserPageLoadStrategy())
+                .browserCapabilities(options);
+    }
+
     /**
      * Инициализация selenide с настройками
      */
-    public void setUp() {
-        WebDriverManager.chromedriver().setup();
-        Configuration.browser = "chrome";
-        Configuration.driverManagerEnabled = true;
-        Configuration.browserSize = "1920x1080";
-        Configuration.headless = false;
-        SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-                .screenshots(true)
-                .savePageSource(false));
+    public void setUp() throws InterruptedException {
+        BrowserPool.Lease lease = POOL.lease();
+        LEASE.set(lease);
+        // статический API и слушатели селенида работают с браузером текущего потока
+        WebDriverRunner.setWebDriver(lease.driver().getWebDriver());
+        if (!SelenideLogger.hasListener(ALLURE_LISTENER)) {
+            // шаги пишет AllureSelenide, а скриншоты упавших шагов — фоновый ScreenshotPipeline
+            SelenideLogger.addListener(ALLURE_LISTENER, new AllureSelenide()
+                    .screenshots(false)
+                    .savePageSource(false));
+        }
+        if (!SelenideLogger.hasListener(SCREENSHOT_LISTENER)) {
+            SelenideLogger.addListener(SCREENSHOT_LISTENER, new ScreenshotOnFailure());
+        }
+    }
+
+    /**
+     * Браузер текущего теста
+     */
+    protected SelenideDriver browser() {
+        return LEASE.get().driver();
     }
 
     /**
      * Выполнение метода перед каждым запуском тестов
      */
     @BeforeEach
-    public void init() {
+    public void init() throws InterruptedException {
         setUp();
     }
 
     /**
-     * Выполнение метода после каждого закрытия тестов
+     * Выполнение метода после каждого закрытия тестов: браузер возвращается в пул
      */
     @AfterEach
     public void tearDown() {
-        Selenide.closeWebDriver();
+        // результат теста записывается после tearDown, к этому моменту вложения должны иметь итоговый тип
+        ScreenshotPipeline.get().awaitPending();
+        BrowserPool.Lease lease = LEASE.get();
+        LEASE.remove();
+        if (lease != null) {
+            POOL.release(lease);
+        }
     }
 }
@@ -0,0 +1,133 @@
+package demoqa_ui;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Ограниченный пул headless браузеров для параллельных UI тестов.
+ * <p>
+ * Каждый тест берёт браузер через {@link #lease()} и возвращает через {@link #release(Lease)}.
+ * Новый браузер запускается сразу при выдаче. Перед повторной выдачей браузер проверяется на живость,
+ * при возврате очищаются cookies и storage;
+ * после {@code recycleAfter} тестов браузер закрывается и заменяется новым.
+ */
+public class BrowserPool {
+
+    private final Semaphore permits;
+    private final Deque<Lease> idle = new ConcurrentLinkedDeque<>();
+    private final Supplier<SelenideConfig> config;
+    private final int recycleAfter;
+
+    static {
+        // поиск chromedriver - один раз на JVM
+        WebDriverManager.chromedriver().setup();
+    }
+
+    /**
+     * @param size         максимум одновременно открытых браузеров
+     * @param recycleAfter сколько тестов браузер обслуживает до замены
+     * @param config       настройки для каждого нового браузера
+     */
+    public BrowserPool(int size, int recycleAfter, Supplier<SelenideConfig> config) {
+        this.permits = new Semaphore(size, true);
+        this.recycleAfter = recycleAfter;
+        this.config = config;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeIdle));
+    }
+
+    /**
+     * Выдать браузер, ожидая, пока освободится место в пуле
+     */
+    public Lease lease() throws InterruptedException {
+        permits.acquire();
+        try {
+            Lease lease;
+            while ((lease = idle.pollFirst()) != null) {
+                if (isHealthy(lease.driver())) {
+                    lease.uses++;
+                    return lease;
+                }
+                lease.driver().close();
+            }
+            SelenideDriver driver = new SelenideDriver(config.get());
+            // SelenideDriver ленивый: запускаем браузер сразу, чтобы тест мог привязать его к WebDriverRunner
+            driver.getAndCheckWebDriver();
+            lease = new Lease(driver);
+            lease.uses++;
+            return lease;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Вернуть браузер в пул (или закрыть, если он отработал своё либо не сбрасывается)
+     */
+    public void release(Lease lease) {
+        try {
+            if (lease.uses >= recycleAfter || !reset(lease.driver())) {
+                lease.driver().close();
+            } else {
+                idle.addFirst(lease);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isHealthy(SelenideDriver driver) {
+        try {
+            return driver.hasWebDriverStarted() && !driver.getWebDriver().getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean reset(SelenideDriver driver) {
+        if (!driver.hasWebDriverStarted()) {
+            return true;
+        }
+        try {
+            driver.clearCookies();
+            driver.executeJavaScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            driver.open("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void closeIdle() {
+        Lease lease;
+        while ((lease = idle.pollFirst()) != null) {
+            try {
+                lease.driver().close();
+            } catch (RuntimeException e) {
+                // JVM завершается, закрываем остальные
+            }
+        }
+    }
+
+    /**
+     * Браузер, выданный тесту, и счётчик его использований
+     */
+    public static final class Lease {
+        private final SelenideDriver driver;
+        private int uses;
+
+        private Lease(SelenideDriver driver) {
+            this.driver = driver;
+        }
+
+        public SelenideDriver driver() {
+            return driver;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package demoqa_ui;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.interactable;
+
+/**
+ * Ожидания готовности страницы по состоянию DOM вместо фиксированных пауз.
+ * <p>
+ * Каждое ожидание завершается сразу, как только условие выполнено, и падает по таймауту селенида
+ * ({@code timeout} из конфигурации браузера), если страница так и не стала готовой.
+ */
+public class PageReadiness {
+
+    /**
+     * Сколько времени не должно завершаться новых сетевых запросов, чтобы считать сеть «тихой»
+     */
+    private static final Duration NETWORK_QUIET = Duration.ofMillis(500);
+
+    /**
+     * Размер буфера Resource Timing: по умолчанию браузер хранит только 250 записей и перестаёт
+     * записывать новые, а на demoqa с рекламой этот предел набирается быстро
+     */
+    private static final int RESOURCE_TIMING_BUFFER = 10_000;
+
+    /**
+     * document.readyState и сколько миллисекунд назад завершился последний запрос к источнику страницы
+     * из Resource Timing API. Запросы рекламы и счётчиков на сторонние домены не затихают никогда, поэтому
+     * не учитываются. Запросы, отброшенные до первого вызова из-за переполнения буфера, тоже не учитываются
+     */
+    private static final String NETWORK_STATE = String.join("\n",
+            "performance.setResourceTimingBufferSize(arguments[0]);",
+            "const last = performance.getEntriesByType('resource')",
+            "    .filter(r => new URL(r.name).origin === location.origin)",
+            "    .reduce((end, r) => Math.max(end, r.responseEnd), 0);",
+            "return [document.readyState, performance.now() - last];");
+
+    /**
+     * Находится ли центр элемента под курсором, а не под перекрывающим его блоком (например, рекламой)
+     */
+    private static final String NOT_COVERED = String.join("\n",
+            "const el = arguments[0];",
+            "const r = el.getBoundingClientRect();",
+            "const top = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);",
+            "return top !== null && (top === el || el.contains(top));");
+
+    private final SelenideDriver driver;
+
+    public PageReadiness(SelenideDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Ждём, пока элемент ничем не перекрыт (рекламные блоки demoqa перехватывают клики по нижней части формы).
+     * Элемент прокручивается в центр окна, DOM страницы не меняется
+     */
+    public PageReadiness notCovered(SelenideElement element) {
+        element.shouldBe(interactable);
+        driver.executeJavaScript("arguments[0].scrollIntoView({block: 'center'});", element);
+        driver.Wait()
+                .withTimeout(Duration.ofMillis(driver.config().timeout()))
+                .pollingEvery(Duration.ofMillis(driver.config().pollingInterval()))
+                .withMessage(element + " is covered by another element")
+                .until(webDriver -> Boolean.TRUE.equals(driver.executeJavaScript(NOT_COVERED, element)));
+        return this;
+    }
+
+    /**
+     * Ждём, пока элемент станет видимым и доступным для взаимодействия
+     */
+    public PageReadiness interactive(SelenideElement element) {
+        element.shouldBe(interactable);
+        return this;
+    }
+
+    /**
+     * Ждём загрузки документа и паузы в сетевой активности страницы: последний запрос к её источнику
+     * из Resource Timing завершился не менее {@link #NETWORK_QUIET} назад. Если сеть уже затихла, ожидание не добавляет паузы.
+     * Запросы, которые ещё не завершились, в Resource Timing не видны
+     */
+    public PageReadiness networkIdle() {
+        driver.Wait()
+                .withTimeout(Duration.ofMillis(driver.config().timeout()))
+                .pollingEvery(Duration.ofMillis(driver.config().pollingInterval()))
+                .withMessage("network did not become idle")
+                .until(webDriver -> {
+                    List<?> state = driver.executeJavaScript(NETWORK_STATE, RESOURCE_TIMING_BUFFER);
+                    return "complete".equals(state.get(0))
+                            && ((Number) state.get(1)).doubleValue() >= NETWORK_QUIET.toMillis();
+                });
+        return this;
+    }
+}
@@ -1,30 +1,69 @@
 package demoqa_ui;
 
-import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideDriver;
 import com.codeborne.selenide.SelenideElement;
-import io.qameta.allure.Attachment;
+import demoqa_ui.screenshots.ScreenshotPipeline;
 import io.qameta.allure.Step;
-import org.openqa.selenium.OutputType;
+import org.assertj.core.api.SoftAssertions;
+import org.openqa.selenium.TakesScreenshot;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import static com.codeborne.selenide.CollectionCondition.texts;
 import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selectors.byText;
-import static com.codeborne.selenide.Selenide.*;
 
 public class PracticeFormPage {
-    private final SelenideElement formButtonMainPage = $x("//h5[text()='Forms']");
-    private final SelenideElement formButtonLeftSide = $x("//span[text()='Practice Form']");
-    private final SelenideElement firstName = $x("//input[@id='firstName']");
-    private final SelenideElement lastName = $("#lastName");
-    private final SelenideElement email = $("#userEmail");
-    private final SelenideElement phoneNumber = $("#userNumber");
-    private final SelenideElement subject = $("#subjectsInput");
-    private final SelenideElement currentAddress = $("#currentAddress");
-
-    public PracticeFormPage(String url) {
-        Selenide.open(url);
+    /**
+     * Заполнение текстовых полей одним вызовом: значение ставится через нативный setter прототипа,
+     * иначе React не заметит изменения, после чего отправляются события input и change.
+     * Возвращает id полей, которых нет на странице.
+     */
+    private static final String FILL_TEXT_INPUTS = String.join("\n",
+            "const missing = [];",
+            "for (const [id, value] of Object.entries(arguments[0])) {",
+            "  const field = document.getElementById(id);",
+            "  if (!field) { missing.push(id); continue; }",
+            "  const proto = field instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;",
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(field, value);",
+            "  field.dispatchEvent(new Event('input', {bubbles: true}));",
+            "  field.dispatchEvent(new Event('change', {bubbles: true}));",
+            "}",
+            "return missing;");
+
+    /**
+     * Снимок таблицы результатов за один вызов: пары [Label, Values] по строкам tbody
+     */
+    private static final String READ_RESULT_TABLE =
+            "return Array.from(document.querySelectorAll('.table-responsive tbody tr'))"
+                    + ".map(row => Array.from(row.cells).map(cell => cell.innerText.trim()));";
+
+    private final SelenideDriver driver;
+    private final SelenideElement formButtonMainPage;
+    private final SelenideElement formButtonLeftSide;
+    private final SelenideElement firstName;
+    private final SelenideElement lastName;
+    private final SelenideElement email;
+    private final SelenideElement phoneNumber;
+    private final SelenideElement subject;
+    private final SelenideElement currentAddress;
+    private final SelenideElement submit;
+
+    public PracticeFormPage(SelenideDriver driver, String url) {
+        this.driver = driver;
+        formButtonMainPage = driver.$x("//h5[text()='Forms']");
+        formButtonLeftSide = driver.$x("//span[text()='Practice Form']");
+        firstName = driver.$x("//input[@id='firstName']");
+        lastName = driver.$("#lastName");
+        email = driver.$("#userEmail");
+        phoneNumber = driver.$("#userNumber");
+        subject = driver.$("#subjectsInput");
+        currentAddress = driver.$("#currentAddress");
+        submit = driver.$("#submit");
+        driver.open(url);
     }
 
     public void openFormsPage() {
@@ -50,8 +89,19 @@ public class PracticeFormPage {
         this.email.setValue(email);
     }
 
+    /**
+     * Заполняет текстовые поля (id поля -> значение) за одну команду WebDriver вместо отдельного
+     * setValue на каждое поле. Для проверки ввода с клавиатуры остаются методы setFirstName и т.д.
+     */
+    public void fillTextInputs(Map<String, String> valuesById) {
+        List<String> missing = driver.executeJavaScript(FILL_TEXT_INPUTS, valuesById);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Text inputs not found on the page: " + missing);
+        }
+    }
+
     public void selectGender(String gender) {
-        $x("//label[text()='" + gender + "']").click();
+        driver.$x("//label[text()='" + gender + "']").click();
     }
 
     public void setPhoneNumber(String phoneNumber) {
@@ -59,10 +109,10 @@ public class PracticeFormPage {
     }
 
     public void setDateOfBirth(String year, String month, String day) {
-        $("#dateOfBirthInput").click();
-        $(".react-datepicker__month-select").selectOption(month);
-        $(".react-datepicker__year-select").selectOption(year);
-        $(".react-datepicker__day--0" + day).click();
+        driver.$("#dateOfBirthInput").click();
+        driver.$(".react-datepicker__month-select").selectOption(month);
+        driver.$(".react-datepicker__year-select").selectOption(year);
+        driver.$(".react-datepicker__day--0" + day).click();
     }
 
     public void setSubject(String subject) {
@@ -70,7 +120,7 @@ public class PracticeFormPage {
     }
 
     public void setHobie(String hobie) {
-        $("#hobbiesWrapper").$(byText(hobie)).click();
+        driver.$("#hobbiesWrapper").$(byText(hobie)).click();
     }
 
     public void setCurrentAddress(String address) {
@@ -78,34 +128,65 @@ public class PracticeFormPage {
     }
 
     public void setCurrentState(String state) {
-        $("#react-select-3-input").setValue(state).pressEnter();
+        driver.$("#react-select-3-input").setValue(state).pressEnter();
     }
 
     public void setCurrentCity(String city) {
-        $("#react-select-4-input").setValue(city).pressEnter();
+        driver.$("#react-select-4-input").setValue(city).pressEnter();
     }
 
     public void uploadFile(String filepath, String filename) {
-        $("#uploadPicture").uploadFile(new File(filepath + filename));
+        driver.$("#uploadPicture").uploadFile(new File(filepath + filename));
+    }
+
+    /**
+     * Ожидания готовности страницы (перекрытие рекламой, интерактивность, сеть)
+     */
+    public PageReadiness readiness() {
+        return new PageReadiness(driver);
     }
 
     public void submitForm() {
-        Selenide.sleep(2000);
-        $("#submit").scrollIntoView(true).click();
+        readiness().networkIdle().notCovered(submit);
+        submit.click();
     }
 
     public void checkFormTitle() {
         //Проверяем заполнение анкеты
-        $("#example-modal-sizes-title-lg").shouldHave(text("Thanks for submitting the form"));
+        driver.$("#example-modal-sizes-title-lg").shouldHave(text("Thanks for submitting the form"));
+    }
+
+    /**
+     * Читает таблицу результатов в модальном окне одним запросом к браузеру: Label -> Values
+     */
+    public Map<String, String> readResultTable() {
+        driver.$(".table-responsive").shouldBe(visible);
+        List<List<String>> rows = driver.executeJavaScript(READ_RESULT_TABLE);
+        Map<String, String> table = new LinkedHashMap<>();
+        for (List<String> row : rows) {
+            table.put(row.get(0), row.size() > 1 ? row.get(1) : "");
+        }
+        return table;
+    }
+
+    /**
+     * Сверяет все ожидаемые строки таблицы с одним снимком и сообщает обо всех расхождениях сразу
+     */
+    public void checkTable(Map<String, String> expected) {
+        Map<String, String> actual = readResultTable();
+        SoftAssertions softly = new SoftAssertions();
+        expected.forEach((label, value) -> softly.assertThat(actual.get(label))
+                .as("Result table row '%s'", label)
+                .isEqualTo(value));
+        softly.assertAll();
     }
 
     public void checkTable(String checkname, String actualResult) {
-        $$(".table-responsive tr").filterBy(text(checkname)).shouldHave(texts(actualResult));
+        checkTable(Map.of(checkname, actualResult));
     }
 
-    @Attachment(value = "Screenshot", type = "image/png")
     @Step("Taking a screenshot")
-    public byte[] takeScreenshot() {
-        return Selenide.screenshot(OutputType.BYTES);
+    public void takeScreenshot() {
+        ScreenshotPipeline.get().capture((TakesScreenshot) driver.getWebDriver(), "Screenshot");
     }
 }
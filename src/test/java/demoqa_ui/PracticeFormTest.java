@@ -1,6 +1,8 @@
 package demoqa_ui;
 
-import com.github.javafaker.Faker;
+import demoqa_ui.data.StudentData;
+import demoqa_ui.data.StudentDataPool;
+import demoqa_ui.stub.DemoqaStub;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
@@ -9,11 +11,16 @@ import io.qameta.allure.Story;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
-public class PracticeFormTest extends BaseSelenideTest {
-    Faker faker = new Faker();
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-    private final static String BASE_URL = "https://demoqa.com/";
+public class PracticeFormTest extends BaseSelenideTest {
+    private final static String BASE_URL = DemoqaStub.baseUrl();
     private final static String FILENAME = "cat.jpeg";
     private final static String FILEPATH = "src/test/resources/files/";
 
@@ -33,11 +40,6 @@ public class PracticeFormTest extends BaseSelenideTest {
 
     @BeforeEach
     public void setup() {
-        firstName = faker.name().firstName();
-        lastName = faker.name().lastName();
-        email = faker.internet().emailAddress();
-        phone = faker.phoneNumber().subscriberNumber(10);
-        currentAddress = faker.address().fullAddress();
         gender = "Male";
         year = "1973";
         month = "February";
@@ -48,6 +50,21 @@ public class PracticeFormTest extends BaseSelenideTest {
         city = "Merrut";
     }
 
+    /**
+     * Студенты для параметризованного теста — первые записи общего пула
+     */
+    static Stream<StudentData> students() {
+        return StudentDataPool.students().limit(3);
+    }
+
+    private void useStudent(StudentData student) {
+        firstName = student.getFirstName();
+        lastName = student.getLastName();
+        email = student.getEmail();
+        phone = student.getPhone();
+        currentAddress = student.getCurrentAddress();
+    }
+
     @Epic("Forms Testing")
     @Feature("Practice Form Submission")
     @Story("Fill and validate the Practice Form")
@@ -56,18 +73,54 @@ public class PracticeFormTest extends BaseSelenideTest {
 //    @RepeatedTest(2)
     @Test
     public void testFillTheForm() {
-        PracticeFormPage practiceFormPage = new PracticeFormPage(BASE_URL);
-        practiceFormPage.openFormsPage();
-        practiceFormPage.pressFormButtonLeftSide();
+        useStudent(StudentDataPool.get().next());
+        fillAndSubmitForm(this::typeTextFields);
+    }
+
+    @Epic("Forms Testing")
+    @Feature("Practice Form Submission")
+    @Story("Fill and validate the Practice Form")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Filling and Submitting the Practice Form for pooled students")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("students")
+    public void testFillTheFormForStudents(StudentData student) {
+        useStudent(student);
+        fillAndSubmitForm(this::fillTextFieldsAtOnce);
+    }
+
+    /**
+     * Ввод текстовых полей с клавиатуры, по одному полю
+     */
+    private void typeTextFields(PracticeFormPage practiceFormPage) {
         practiceFormPage.setFirstName(firstName);
         practiceFormPage.setLastName(lastName);
         practiceFormPage.setEmail(email);
         practiceFormPage.setPhoneNumber(phone);
+        practiceFormPage.setCurrentAddress(currentAddress);
+    }
+
+    /**
+     * Заполнение всех текстовых полей одной командой — для прогонов с большим объёмом данных
+     */
+    private void fillTextFieldsAtOnce(PracticeFormPage practiceFormPage) {
+        practiceFormPage.fillTextInputs(Map.of(
+                "firstName", firstName,
+                "lastName", lastName,
+                "userEmail", email,
+                "userNumber", phone,
+                "currentAddress", currentAddress));
+    }
+
+    private void fillAndSubmitForm(Consumer<PracticeFormPage> fillTextFields) {
+        PracticeFormPage practiceFormPage = new PracticeFormPage(browser(), BASE_URL);
+        practiceFormPage.openFormsPage();
+        practiceFormPage.pressFormButtonLeftSide();
+        fillTextFields.accept(practiceFormPage);
         practiceFormPage.setDateOfBirth(year, month, day);
         practiceFormPage.setSubject(subject);
         practiceFormPage.setHobie(hobbies);
         practiceFormPage.uploadFile(FILEPATH, FILENAME);
-        practiceFormPage.setCurrentAddress(currentAddress);
         practiceFormPage.setCurrentState(state);
         practiceFormPage.setCurrentCity(city);
         practiceFormPage.selectGender(gender);
@@ -76,16 +129,18 @@ public class PracticeFormTest extends BaseSelenideTest {
         practiceFormPage.takeScreenshot();
 
         practiceFormPage.checkFormTitle();
-        practiceFormPage.checkTable("Student name", firstName + " " + lastName);
-        practiceFormPage.checkTable("Student Email", email);
-        practiceFormPage.checkTable("Gender", this.gender);
-        practiceFormPage.checkTable("Mobile", phone);
-        practiceFormPage.checkTable("Date of Birth", day + " " + month + "," + year);
-        practiceFormPage.checkTable("Subjects", subject);
-        practiceFormPage.checkTable("Hobbies", hobbies);
-        practiceFormPage.checkTable("Picture", FILENAME);
-        practiceFormPage.checkTable("Address", currentAddress);
-        practiceFormPage.checkTable("State and City", state + " " + city);
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Student Name", firstName + " " + lastName);
+        expected.put("Student Email", email);
+        expected.put("Gender", gender);
+        expected.put("Mobile", phone);
+        expected.put("Date of Birth", day + " " + month + "," + year);
+        expected.put("Subjects", subject);
+        expected.put("Hobbies", hobbies);
+        expected.put("Picture", FILENAME);
+        expected.put("Address", currentAddress);
+        expected.put("State and City", state + " " + city);
+        practiceFormPage.checkTable(expected);
     }
 
 }
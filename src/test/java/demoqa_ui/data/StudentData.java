@@ -0,0 +1,19 @@
+package demoqa_ui.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Данные студента для Practice Form
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StudentData {
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phone;
+    private final String currentAddress;
+}
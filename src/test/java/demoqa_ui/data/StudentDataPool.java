@@ -0,0 +1,74 @@
+package demoqa_ui.data;
+
+import com.github.javafaker.Faker;
+import config.ApplicationConfig;
+import config.ConfigProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Пул тестовых данных, сгенерированный Faker один раз на JVM.
+ * <p>
+ * Генерация с фиксированным seed воспроизводима: при одинаковых {@code data.pool.seed} и {@code data.pool.size}
+ * тесты получают те же записи. Параллельные тесты разбирают записи по атомарному счётчику без блокировок;
+ * после конца пула выдача идёт по кругу.
+ */
+public final class StudentDataPool {
+
+    private final List<StudentData> records;
+    private final AtomicInteger next = new AtomicInteger();
+
+    StudentDataPool(int size, long seed) {
+        Faker faker = new Faker(Locale.ENGLISH, new Random(seed));
+        List<StudentData> generated = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            generated.add(new StudentData(
+                    faker.name().firstName(),
+                    faker.name().lastName(),
+                    faker.internet().emailAddress(),
+                    faker.phoneNumber().subscriberNumber(10),
+                    faker.address().fullAddress()));
+        }
+        records = Collections.unmodifiableList(generated);
+    }
+
+    public static StudentDataPool get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Источник для {@code @MethodSource("demoqa_ui.data.StudentDataPool#students")}: все записи пула по порядку
+     */
+    public static Stream<StudentData> students() {
+        return get().records.stream();
+    }
+
+    /**
+     * Следующая запись пула
+     */
+    public StudentData next() {
+        return records.get(Math.floorMod(next.getAndIncrement(), records.size()));
+    }
+
+    public StudentData record(int index) {
+        return records.get(index);
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    private static final class Holder {
+        private static final StudentDataPool INSTANCE = create(ConfigProvider.getConfig());
+
+        private static StudentDataPool create(ApplicationConfig config) {
+            return new StudentDataPool(config.dataPoolSize(), config.dataPoolSeed());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package demoqa_ui.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+public class StudentDataPoolTest {
+
+    @Test
+    @DisplayName("The same seed generates the same students")
+    public void reproducibleForSeed() {
+        StudentDataPool first = new StudentDataPool(20, 7);
+        StudentDataPool second = new StudentDataPool(20, 7);
+
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertEquals(first.record(i).toString(), second.record(i).toString());
+        }
+        Assertions.assertNotEquals(first.record(0).toString(), new StudentDataPool(20, 8).record(0).toString());
+    }
+
+    @Test
+    @DisplayName("Parallel callers get every record once before the pool wraps around")
+    public void handsOutEachRecordOnce() {
+        StudentDataPool pool = new StudentDataPool(50, 7);
+        Set<StudentData> handedOut = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, pool.size()).parallel().forEach(i -> handedOut.add(pool.next()));
+
+        Assertions.assertEquals(pool.size(), handedOut.size());
+        Assertions.assertSame(pool.record(0), pool.next());
+    }
+
+    @Test
+    @DisplayName("Generated phone numbers have the ten digits the form requires")
+    public void phoneNumbers() {
+        StudentDataPool pool = new StudentDataPool(50, 7);
+        IntStream.range(0, pool.size())
+                .mapToObj(pool::record)
+                .forEach(student -> Assertions.assertTrue(student.getPhone().matches("\\d{10}"), student.getPhone()));
+    }
+}
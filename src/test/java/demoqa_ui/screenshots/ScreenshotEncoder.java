@@ -0,0 +1,88 @@
+package demoqa_ui.screenshots;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Пережатие PNG скриншота в JPEG: уменьшение до максимальной ширины и подбор качества,
+ * пока файл не уложится в заданный размер.
+ */
+public class ScreenshotEncoder {
+
+    private static final float[] QUALITIES = {0.85f, 0.7f, 0.55f, 0.4f, 0.25f};
+
+    private final int maxWidth;
+    private final int maxBytes;
+
+    public ScreenshotEncoder(int maxWidth, int maxBytes) {
+        this.maxWidth = maxWidth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * JPEG не больше {@code maxBytes}, если это достижимо; иначе результат с самым низким качеством
+     */
+    public byte[] encode(byte[] png) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode the screenshot", e);
+        }
+        if (image == null) {
+            throw new IllegalArgumentException("Screenshot is not a readable image");
+        }
+        BufferedImage scaled = downscale(image);
+        byte[] jpeg = null;
+        for (float quality : QUALITIES) {
+            jpeg = writeJpeg(scaled, quality);
+            if (jpeg.length <= maxBytes) {
+                break;
+            }
+        }
+        return jpeg;
+    }
+
+    private BufferedImage downscale(BufferedImage image) {
+        // JPEG без альфа-канала, поэтому перерисовываем в RGB даже без уменьшения
+        double ratio = Math.min(1.0, (double) maxWidth / image.getWidth());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        BufferedImage rgb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image, float quality) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode the screenshot", e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,65 @@
+package demoqa_ui.screenshots;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+public class ScreenshotEncoderTest {
+
+    @Test
+    @DisplayName("Screenshot is downscaled to the maximum width and recompressed within the size budget")
+    public void fitsWidthAndBudget() throws IOException {
+        byte[] png = noisePng(1920, 1080);
+
+        byte[] jpeg = new ScreenshotEncoder(1280, 150_000).encode(png);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        Assertions.assertEquals(1280, image.getWidth());
+        Assertions.assertEquals(720, image.getHeight());
+        Assertions.assertTrue(jpeg.length <= 150_000, "JPEG size " + jpeg.length);
+        Assertions.assertTrue(jpeg.length < png.length);
+    }
+
+    @Test
+    @DisplayName("Narrow screenshot keeps its size")
+    public void keepsNarrowImage() throws IOException {
+        byte[] jpeg = new ScreenshotEncoder(1280, 150_000).encode(noisePng(800, 600));
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        Assertions.assertEquals(800, image.getWidth());
+        Assertions.assertEquals(600, image.getHeight());
+    }
+
+    @Test
+    @DisplayName("Non-image bytes are rejected")
+    public void rejectsGarbage() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ScreenshotEncoder(1280, 150_000).encode(new byte[]{1, 2, 3}));
+    }
+
+    private static byte[] noisePng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(42);
+        // блоки 16x16 случайного цвета: PNG получается тяжёлым, как у настоящего скриншота
+        for (int y = 0; y < height; y += 16) {
+            for (int x = 0; x < width; x += 16) {
+                int rgb = random.nextInt(1 << 24);
+                for (int dy = 0; dy < 16 && y + dy < height; dy++) {
+                    for (int dx = 0; dx < 16 && x + dx < width; dx++) {
+                        image.setRGB(x + dx, y + dy, 0xFF000000 | rgb);
+                    }
+                }
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,24 @@
+package demoqa_ui.screenshots;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import org.openqa.selenium.TakesScreenshot;
+
+/**
+ * Слушатель селенида: скриншот упавшего шага через {@link ScreenshotPipeline}
+ * вместо синхронных PNG скриншотов AllureSelenide
+ */
+public class ScreenshotOnFailure implements LogEventListener {
+
+    @Override
+    public void afterEvent(LogEvent event) {
+        if (event.getStatus() == LogEvent.EventStatus.FAIL && WebDriverRunner.hasWebDriverStarted()) {
+            ScreenshotPipeline.get().capture((TakesScreenshot) WebDriverRunner.getWebDriver(), "Screenshot");
+        }
+    }
+
+    @Override
+    public void beforeEvent(LogEvent event) {
+    }
+}
@@ -0,0 +1,164 @@
+package demoqa_ui.screenshots;
+
+import config.ApplicationConfig;
+import config.ConfigProvider;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Скриншоты для Allure без блокировки теста.
+ * <p>
+ * В потоке теста делается только снимок и хеш SHA-256: одинаковые кадры в рамках одного теста
+ * прикладываются один раз. Вложение добавляется в текущий шаг Allure сразу, а пережатие в JPEG
+ * и запись файла в allure-results выполняются фоновым потоком. Если пережать не удалось, вложение
+ * становится PNG (тип и расширение). Тест в {@link #awaitPending()} дожидается своих скриншотов,
+ * чтобы результат Allure был записан уже с итоговым типом вложений.
+ */
+public final class ScreenshotPipeline {
+
+    /**
+     * Суффикс имён файлов вложений, как у {@code AllureLifecycle.prepareAttachment}
+     */
+    private static final String ATTACHMENT_SUFFIX = "-attachment";
+
+    private static final ScreenshotPipeline INSTANCE = new ScreenshotPipeline(ConfigProvider.getConfig());
+
+    private final ExecutorService encoders;
+    private final ScreenshotEncoder encoder;
+    private final boolean jpeg;
+    // хеши кадров, уже приложенных к текущему тесту этого потока, и их незаписанные вложения
+    private final ThreadLocal<Frames> frames = new ThreadLocal<>();
+
+    private ScreenshotPipeline(ApplicationConfig config) {
+        jpeg = "jpeg".equalsIgnoreCase(config.screenshotFormat());
+        encoder = new ScreenshotEncoder(config.screenshotMaxWidth(), config.screenshotMaxBytes());
+        encoders = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "screenshot-encoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    public static ScreenshotPipeline get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Снимает экран и прикладывает его к текущему шагу Allure; кодирование и запись идут в фоне
+     */
+    public void capture(TakesScreenshot browser, String name) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> testCase = lifecycle.getCurrentTestCase();
+        if (testCase.isEmpty()) {
+            return;
+        }
+        byte[] png = browser.getScreenshotAs(OutputType.BYTES);
+        Frames current = framesOf(testCase.get());
+        if (!current.hashes().add(sha256(png))) {
+            return;
+        }
+        String file = UUID.randomUUID() + ATTACHMENT_SUFFIX;
+        Attachment attachment = jpeg
+                ? new Attachment().setName(name).setType("image/jpeg").setSource(file + ".jpg")
+                : new Attachment().setName(name).setType("image/png").setSource(file + ".png");
+        attach(lifecycle, testCase.get(), attachment);
+        current.pending().add(encoders.submit(() -> {
+            byte[] bytes = png;
+            if (jpeg) {
+                try {
+                    bytes = encoder.encode(png);
+                } catch (RuntimeException e) {
+                    // не смогли пережать — прикладываем исходный PNG с правильным типом
+                    attachment.setType("image/png").setSource(file + ".png");
+                }
+            }
+            lifecycle.writeAttachment(attachment.getSource(), new ByteArrayInputStream(bytes));
+        }));
+    }
+
+    /**
+     * Дожидается скриншотов текущего теста этого потока; вызывается до записи результата теста
+     */
+    public void awaitPending() {
+        Frames current = frames.get();
+        if (current == null) {
+            return;
+        }
+        for (Future<?> pending : current.pending()) {
+            try {
+                pending.get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                // скриншот не записан, тест от этого не падает
+            }
+        }
+        current.pending().clear();
+    }
+
+    /**
+     * Дожидается записи всех скриншотов
+     */
+    public void flush() {
+        encoders.shutdown();
+        try {
+            encoders.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Вложение в текущий шаг, а вне шагов — в сам тест
+     */
+    private static void attach(AllureLifecycle lifecycle, String testCase, Attachment attachment) {
+        String current = lifecycle.getCurrentTestCaseOrStep().orElse(testCase);
+        if (current.equals(testCase)) {
+            lifecycle.updateTestCase(testCase, result -> result.getAttachments().add(attachment));
+        } else {
+            lifecycle.updateStep(current, step -> step.getAttachments().add(attachment));
+        }
+    }
+
+    private Frames framesOf(String testCase) {
+        Frames current = frames.get();
+        if (current == null || !current.testCase().equals(testCase)) {
+            current = new Frames(testCase, new HashSet<>(), new ArrayList<>());
+            frames.set(current);
+        }
+        return current;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Frames(String testCase, Set<String> hashes, List<Future<?>> pending) {
+    }
+}
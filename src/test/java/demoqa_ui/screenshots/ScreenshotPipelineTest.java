@@ -0,0 +1,40 @@
+package demoqa_ui.screenshots;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScreenshotPipelineTest {
+
+    @Test
+    @DisplayName("Screenshot that cannot be recompressed is attached as PNG")
+    public void fallsBackToPng() {
+        byte[] broken = "not an image".getBytes(StandardCharsets.UTF_8);
+        TakesScreenshot browser = new TakesScreenshot() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <X> X getScreenshotAs(OutputType<X> target) {
+                return (X) broken;
+            }
+        };
+
+        ScreenshotPipeline.get().capture(browser, "Broken");
+        ScreenshotPipeline.get().awaitPending();
+
+        List<Attachment> attachments = new ArrayList<>();
+        Allure.getLifecycle().updateTestCase(result -> attachments.addAll(result.getAttachments()));
+        Attachment attachment = attachments.stream()
+                .filter(a -> "Broken".equals(a.getName()))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("image/png", attachment.getType());
+        Assertions.assertTrue(attachment.getSource().endsWith(".png"), attachment.getSource());
+    }
+}
@@ -0,0 +1,106 @@
+package demoqa_ui.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.ApplicationConfig;
+import config.ConfigProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Локальная копия страниц demoqa (главная, Forms, Practice Form) из {@code stub/demoqa} в ресурсах тестов.
+ * <p>
+ * Сервер запускается один раз на JVM при первом вызове {@link #baseUrl()}, если {@code demoqa.stub = true}.
+ * Копия повторяет id и селекторы demoqa, поэтому PracticeFormPage работает с ней без изменений,
+ * а страницы отдаются из памяти без сети и рекламы.
+ */
+public final class DemoqaStub {
+
+    private static final String ROOT = "stub/demoqa";
+    private static final Map<String, String> PAGES = Map.of(
+            "/", "/index.html",
+            "/forms", "/forms.html",
+            "/automation-practice-form", "/automation-practice-form.html"
+    );
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8"
+    );
+
+    private final HttpServer server;
+    // ресурсы читаются с диска один раз, дальше отдаются из памяти
+    private final Map<String, Optional<byte[]>> cache = new ConcurrentHashMap<>();
+
+    private DemoqaStub() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the demoqa stub", e);
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "demoqa-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            workers.shutdownNow();
+        }));
+    }
+
+    /**
+     * Адрес для UI тестов: локальная копия при {@code demoqa.stub = true}, иначе {@code demoqa.url}
+     */
+    public static String baseUrl() {
+        ApplicationConfig config = ConfigProvider.getConfig();
+        return config.demoqaStub() ? Holder.INSTANCE.url() : config.demoqaUrl();
+    }
+
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String file = PAGES.getOrDefault(path, path);
+            Optional<byte[]> body = path.contains("..") ? Optional.empty() : cache.computeIfAbsent(file, DemoqaStub::read);
+            if (!"GET".equals(exchange.getRequestMethod()) || body.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String extension = file.substring(file.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.sendResponseHeaders(200, body.get().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.get());
+            }
+        }
+    }
+
+    private static Optional<byte[]> read(String file) {
+        try (InputStream in = DemoqaStub.class.getClassLoader().getResourceAsStream(ROOT + file)) {
+            return in == null ? Optional.empty() : Optional.of(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + ROOT + file, e);
+        }
+    }
+
+    private static final class Holder {
+        private static final DemoqaStub INSTANCE = new DemoqaStub();
+    }
+}
@@ -0,0 +1,24 @@
+package reqres_api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import reqres_api.cassette.CassetteExtension;
+import reqres_api.latency.LatencyReportExtension;
+import reqres_api.logging.FailureLogExtension;
+
+/**
+ * Base class for the Reqres API tests: test methods run concurrently, each test's
+ * endpoint latencies are attached to the Allure report and its requests are logged only if it fails.
+ * With {@code cassette.mode} set, responses are recorded to or replayed from a cassette per test class.
+ */
+@ExtendWith({CassetteExtension.class, LatencyReportExtension.class, FailureLogExtension.class})
+abstract public class BaseApiTest {
+
+    /**
+     * Worker threads are reused, so a test must not see the specifications installed by the previous one.
+     */
+    @AfterEach
+    public void clearSpecification() {
+        Specifications.clearSpecification();
+    }
+}
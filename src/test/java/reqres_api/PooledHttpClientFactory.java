@@ -0,0 +1,50 @@
+package reqres_api;
+
+import config.ApplicationConfig;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+
+/**
+ * Creates RestAssured's Apache client on top of a pooling connection manager, so connections
+ * (and their TLS sessions) are kept alive and reused across tests instead of being reopened per request.
+ * The connect and socket timeouts are set on the client here as well.
+ * <p>
+ * RestAssured 4 still requires the legacy {@link DefaultHttpClient} API, hence the deprecated classes.
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final ApplicationConfig config;
+    private HttpClient client;
+
+    public PooledHttpClientFactory(ApplicationConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the same client to every caller: RestAssured may ask concurrently before it caches one itself.
+     */
+    @Override
+    public synchronized HttpClient createHttpClient() {
+        if (client == null) {
+            client = newClient();
+        }
+        return client;
+    }
+
+    private HttpClient newClient() {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(config.httpMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.httpMaxConnectionsPerRoute());
+
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        long keepAlive = config.httpKeepAliveMillis();
+        client.setKeepAliveStrategy((response, context) -> keepAlive);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), config.httpConnectTimeoutMillis());
+        HttpConnectionParams.setSoTimeout(client.getParams(), config.httpSocketTimeoutMillis());
+        return client;
+    }
+}
@@ -0,0 +1,33 @@
+package reqres_api;
+
+import config.ConfigProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import reqres_api.contract.ContractCases;
+import reqres_api.contract.ContractRunner;
+import reqres_api.stub.ReqresStub;
+
+import java.util.stream.Stream;
+
+/**
+ * Data-driven contract tests: every case in {@code src/test/resources/contracts} becomes a dynamic test.
+ */
+public class ReqresContractTest extends BaseApiTest {
+    private final static String URL = ReqresStub.baseUrl();
+
+    private final ContractRunner runner =
+            new ContractRunner(Specifications.requestSpec(URL), ConfigProvider.getConfig().contractConcurrency());
+
+    @TestFactory
+    @DisplayName("Reqres endpoint contracts")
+    public Stream<DynamicTest> reqresContracts() {
+        return runner.tests(ContractCases.stream("contracts/reqres.jsonl"));
+    }
+
+    @TestFactory
+    @DisplayName("Reqres user contracts")
+    public Stream<DynamicTest> userContracts() {
+        return runner.tests(ContractCases.stream("contracts/users.csv"));
+    }
+}
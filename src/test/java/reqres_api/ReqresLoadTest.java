@@ -0,0 +1,37 @@
+package reqres_api;
+
+import config.ApplicationConfig;
+import config.ConfigProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reqres_api.load.LoadReport;
+import reqres_api.load.OpenLoopLoadGenerator;
+import reqres_api.load.ReqresScenario;
+import reqres_api.stub.ReqresStub;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Load run of the register, login, list users and update user scenarios at {@code load.rate} requests per second.
+ * Excluded from the default build; {@code mvn test -Pload} runs it against the stub, {@code -Dstub=false} against the host.
+ */
+@Tag("load")
+public class ReqresLoadTest {
+    private final static String URL = ReqresStub.baseUrl();
+    private final static String API = ConfigProvider.getConfig().api();
+
+    @Test
+    @DisplayName("Reqres scenarios hold the configured request rate without errors")
+    public void reqresScenariosUnderLoad() throws InterruptedException {
+        ApplicationConfig config = ConfigProvider.getConfig();
+        LoadReport report = new OpenLoopLoadGenerator(URL, API, List.of(ReqresScenario.values()),
+                config.loadRate(), Duration.ofSeconds(config.loadDurationSeconds())).run();
+        System.out.println(report);
+
+        Assertions.assertEquals(0, report.errors(), () -> "Failed requests under load: " + report.causes());
+        Assertions.assertEquals((long) config.loadRate() * config.loadDurationSeconds(), report.requests());
+    }
+}
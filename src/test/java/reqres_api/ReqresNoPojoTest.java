@@ -1,19 +1,26 @@
 package reqres_api;
 
 import config.ConfigProvider;
-import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reqres_api.cassette.NoCassette;
+import reqres_api.path.JsonDocument;
+import reqres_api.stream.JsonStreamValidator;
+import reqres_api.stub.ReqresStub;
 
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.notNullValue;
+import static reqres_api.Specifications.given;
+import static reqres_api.path.JsonBodyMatcher.jsonBody;
+import static reqres_api.schema.JsonSchemas.matchesSchema;
 
 /**
  * Test class for verifying the functionality of the Reqres.in API without using POJOs.
@@ -22,8 +29,8 @@ import static org.hamcrest.Matchers.notNullValue;
  * resource retrieval, and deletion. Assertions validate the correctness of the responses
  * based on expected results.
  */
-public class ReqresNoPojoTest {
-    private final static String URL = ConfigProvider.getConfig().url();
+public class ReqresNoPojoTest extends BaseApiTest {
+    private final static String URL = ReqresStub.baseUrl();
     private final static String API = ConfigProvider.getConfig().api();
 
     /**
@@ -36,27 +43,16 @@ public class ReqresNoPojoTest {
         Response response = given()
                 .when()
                 .get(API + "/users?page=2")
-                .then().log().all()
-                .body("page", equalTo(2))
-                .body("data.id", notNullValue())
-                .body("data.email", notNullValue())
-                .body("data.first_name", notNullValue())
-                .body("data.last_name", notNullValue())
-                .body("data.avatar", notNullValue())
+                .then()
+                .body(jsonBody().with("page", equalTo(2)))
+                .body(matchesSchema("users-page"))
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
-        List<String> emails = jsonPath.get("data.email");
-        List<Integer> ids = jsonPath.get("data.id");
-        List<String> avatars = jsonPath.get("data.avatar");
-
-        Assertions.assertEquals(emails.size(), ids.size());
-        Assertions.assertEquals(emails.size(), avatars.size());
-
-        for (int i = 0; i < avatars.size(); i++) {
-            Assertions.assertTrue(avatars.get(i).contains(ids.get(i).toString()));
-        }
-
-        Assertions.assertTrue(emails.stream().allMatch(x -> x.endsWith("@reqres.in")));
+        // Single streaming pass over "data" instead of extracting a list per field
+        int users = JsonStreamValidator.forEachElementOf("data")
+                .rule("avatar contains id", user -> user.text("avatar").contains(user.text("id")))
+                .rule("email ends with @reqres.in", user -> user.text("email").endsWith("@reqres.in"))
+                .assertValid(response.asInputStream());
+        Assertions.assertTrue(users > 0);
     }
 
     /**
@@ -73,11 +69,12 @@ public class ReqresNoPojoTest {
                 .body(user)
                 .when()
                 .post(API + "/register")
-                .then().log().all()
+                .then()
+                .body(matchesSchema("successful-registration"))
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
-        int id = jsonPath.get("id");
-        String token = jsonPath.get("token");
+        JsonDocument json = JsonDocument.of(response);
+        int id = json.get("id");
+        String token = json.get("token");
         Assertions.assertEquals(4, id);
         Assertions.assertEquals("QpwL5tke4Pnpja7X4", token);
     }
@@ -97,12 +94,12 @@ public class ReqresNoPojoTest {
                 .body(user)
                 .when()
                 .post(API + "/users")
-                .then().log().all()
+                .then()
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
+        JsonDocument json = JsonDocument.of(response);
 
-        Assertions.assertEquals("morpheus", jsonPath.get("name"));
-        Assertions.assertEquals("leader", jsonPath.get("job"));
+        Assertions.assertEquals("morpheus", json.get("name"));
+        Assertions.assertEquals("leader", json.get("job"));
     }
 
     /**
@@ -115,7 +112,7 @@ public class ReqresNoPojoTest {
         given()
                 .when()
                 .delete(API + "/users/2")
-                .then().log().all();
+                .then();
     }
 
     /**
@@ -133,11 +130,11 @@ public class ReqresNoPojoTest {
                 .body(user)
                 .when()
                 .post(API + "/login")
-                .then().log().all()
+                .then()
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
+        JsonDocument json = JsonDocument.of(response);
 
-        Assertions.assertEquals("QpwL5tke4Pnpja7X4", jsonPath.get("token"));
+        Assertions.assertEquals("QpwL5tke4Pnpja7X4", json.get("token"));
     }
 
     /**
@@ -154,11 +151,11 @@ public class ReqresNoPojoTest {
                 .body(user)
                 .when()
                 .post(API + "/login")
-                .then().log().all()
+                .then()
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
+        JsonDocument json = JsonDocument.of(response);
 
-        Assertions.assertEquals("Missing password", jsonPath.get("error"));
+        Assertions.assertEquals("Missing password", json.get("error"));
     }
 
     /**
@@ -171,7 +168,7 @@ public class ReqresNoPojoTest {
         given()
                 .when()
                 .get(API + "/unknown/23")
-                .then().log().all();
+                .then();
     }
 
     /**
@@ -184,12 +181,12 @@ public class ReqresNoPojoTest {
         Response response = given()
                 .when()
                 .get(API + "/unknown")
-                .then().log().all()
-                .body("data.year", notNullValue())
+                .then()
+                .body(jsonBody().with("data.year", everyItem(notNullValue())))
                 .extract().response();
-        JsonPath jsonPath = response.jsonPath();
+        JsonDocument json = JsonDocument.of(response);
 
-        List<Integer> years = jsonPath.get("data.year");
+        List<Integer> years = json.get("data.year");
         List<Integer> sortedYears = years.stream().sorted().toList();
 
         Assertions.assertEquals(sortedYears, years);
@@ -199,28 +196,31 @@ public class ReqresNoPojoTest {
      * Test to check the response time for delayed response.
      */
     @Test
+    @NoCassette // measures the server's response delay
     @DisplayName("Check response time for delayed response")
     public void testDelayedResponse() {
         Specifications.installSpecification(Specifications.requestSpec(URL), Specifications.responseSpecOK200());
 
+        Clock clock = ReqresStub.clock();
+        long start = clock.millis();
         Response response = given()
                 .param("delay", "3") // Introduce a delay of 3 seconds in the response
                 .when()
                 .get("/api/users")
-                .then().log().all()
+                .then()
                 .extract()
                 .response();
 
-        long responseTime = response.getTime();
+        long responseTime = clock.millis() - start;
         System.out.println("Response time: " + responseTime + " ms");
 
         // Assert that the response time is greater than or equal to 3000 ms (3 seconds)
         Assertions.assertTrue(responseTime >= 3000, "Response time is less than expected delay");
 
         // Additional check to ensure the response contains valid data
-        JsonPath jsonPath = response.jsonPath();
-        String lastName = jsonPath.get("data[0].last_name");
+        JsonDocument json = JsonDocument.of(response);
+        String lastName = json.get("data[0].last_name");
         Assertions.assertEquals(lastName, "Bluth");
-        response.then().body("data[0].first_name", equalTo("George"));
+        response.then().body(jsonBody().with("data[0].first_name", equalTo("George")));
     }
 }
\ No newline at end of file
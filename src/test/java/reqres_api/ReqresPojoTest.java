@@ -5,10 +5,13 @@ import io.restassured.http.ContentType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reqres_api.cassette.NoCassette;
 import reqres_api.color.ColorData;
+import reqres_api.paging.Paginator;
 import reqres_api.registration.Registration;
 import reqres_api.registration.SuccessfulRegistration;
 import reqres_api.registration.UnsuccessfulRegistration;
+import reqres_api.stub.ReqresStub;
 import reqres_api.user.UserData;
 import reqres_api.user.UserTime;
 import reqres_api.user.UserTimeResponse;
@@ -19,11 +22,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static io.restassured.RestAssured.given;
+import static reqres_api.Specifications.given;
+import static reqres_api.schema.JsonSchemas.matchesSchema;
 
-public class ReqresPojoTest {
+public class ReqresPojoTest extends BaseApiTest {
 
-    private final static String URL = ConfigProvider.getConfig().url();
+    private final static String URL = ReqresStub.baseUrl();
     private final static String API = ConfigProvider.getConfig().api();
 
     /**
@@ -37,7 +41,7 @@ public class ReqresPojoTest {
                 .when()
                 .contentType(ContentType.JSON)
                 .get(API + "/users/23")
-                .then().log().all()
+                .then()
                 .extract().as(UserData.class);
         Assertions.assertNull(user.getId());
         Assertions.assertNull(user.getAvatar());
@@ -59,12 +63,27 @@ public class ReqresPojoTest {
                 .when()
                 .contentType(ContentType.JSON)
                 .get(API + "/users?page=2")
-                .then().log().all()
+                .then()
+                .body(matchesSchema("users-page"))
                 .extract().body().jsonPath().getList("data", UserData.class);
         users.forEach(user -> Assertions.assertTrue(user.getAvatar().contains(String.valueOf(user.getId()))));
         users.forEach(user -> Assertions.assertTrue(user.getEmail().endsWith("reqres.in")));
     }
 
+    /**
+     * 1. Get the users from every page on the website https://reqres.in/
+     * 2. Ensure that user IDs are included in their avatars and emails end with 'reqres.in' across the whole collection;
+     */
+    @Test
+    @DisplayName("Avatars contain user IDs on all pages")
+    public void checkAvatarContainsIdAllPagesTest() {
+        List<UserData> users = new Paginator<>(Specifications.requestSpec(URL), API + "/users", UserData.class)
+                .fetchAll();
+        Assertions.assertFalse(users.isEmpty());
+        users.forEach(user -> Assertions.assertTrue(user.getAvatar().contains(String.valueOf(user.getId()))));
+        users.forEach(user -> Assertions.assertTrue(user.getEmail().endsWith("reqres.in")));
+    }
+
     /**
      * 1. Use the service https://reqres.in/ to test user registration in the system
      * 2. Test for successful registration
@@ -80,10 +99,9 @@ public class ReqresPojoTest {
                 .body(user)
                 .when()
                 .post(API + "/register")
-                .then().log().all()
+                .then()
+                .body(matchesSchema("successful-registration"))
                 .extract().as(SuccessfulRegistration.class);
-        Assertions.assertNotNull(successUserReg.getId());
-        Assertions.assertNotNull(successUserReg.getToken());
         Assertions.assertEquals(UserId, successUserReg.getId());
         Assertions.assertEquals(token, successUserReg.getToken());
     }
@@ -103,9 +121,8 @@ public class ReqresPojoTest {
                 .when()
                 .post(API + "/register")
                 .then()  //.assertThat().statusCode(400) check error status, if specification is not defined
-                .log().body()
+                .body(matchesSchema("unsuccessful-registration"))
                 .extract().as(UnsuccessfulRegistration.class);
-        Assertions.assertNotNull(unsuccessfulRegistration.getError());
         Assertions.assertEquals("Missing password", unsuccessfulRegistration.getError());
     }
 
@@ -121,7 +138,7 @@ public class ReqresPojoTest {
                 .when()
                 .get(API + "/unknown")
                 .then()
-                .log().all()
+                .body(matchesSchema("colors-page"))
                 .extract().body().jsonPath().getList("data", ColorData.class);
 
         List<Integer> dataYears = data.stream().map(ColorData::getYear).collect(Collectors.toList());
@@ -131,6 +148,20 @@ public class ReqresPojoTest {
         System.out.println(sortedDataYears);
     }
 
+    /**
+     * Using the service https://reqres.in/, ensure that LIST<RESOURCE> is sorted by year across all pages.
+     */
+    @Test
+    @DisplayName("Years are sorted correctly on all pages")
+    public void checkSortedYearsAllPagesTest() {
+        List<Integer> years = new Paginator<>(Specifications.requestSpec(URL), API + "/unknown", ColorData.class)
+                .stream()
+                .map(ColorData::getYear)
+                .collect(Collectors.toList());
+        List<Integer> sortedYears = years.stream().sorted().collect(Collectors.toList());
+        Assertions.assertEquals(sortedYears, years);
+    }
+
     /**
      * Test 4.1
      * Use the service https://reqres.in/ to try to delete the second user and compare the status code
@@ -142,8 +173,7 @@ public class ReqresPojoTest {
         given()
                 .when()
                 .delete(API + "/users/2")
-                .then()
-                .log().all();
+                .then();
     }
 
     /**
@@ -151,6 +181,7 @@ public class ReqresPojoTest {
      * the current date on the machine.
      */
     @Test
+    @NoCassette // compares against the server clock
     @DisplayName("Server and computer time match")
     public void checkServerAndPcDateTest() {
         Specifications.installSpecification(Specifications.requestSpec(URL), Specifications.responseSpecOK200());
@@ -160,7 +191,7 @@ public class ReqresPojoTest {
                 .body(user)
                 .when()
                 .put(API + "/users/2")
-                .then().log().all()
+                .then()
                 .extract().as(UserTimeResponse.class);
 
         // Format both times to remove seconds and milliseconds
@@ -0,0 +1,68 @@
+package reqres_api;
+
+import config.ConfigProvider;
+import reqres_api.latency.EndpointLatencies;
+import reqres_api.logging.RequestLog;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * What the request filters collected on one thread: the {@link RequestLog} exchanges and the endpoints
+ * recorded in {@link EndpointLatencies}.
+ * <p>
+ * Both are kept per thread, while the failure log and the latency report are produced on the test thread.
+ * Work that sends requests from a pool (contract cases, pages) runs through {@link #run(Callable)} and the
+ * test thread calls {@link Traced#get()}, which moves the worker's requests over to it.
+ */
+public record RequestTrace(List<RequestLog.Exchange> exchanges, Set<String> endpoints) {
+
+    /**
+     * Removes and returns what the current thread has collected so far.
+     */
+    public static RequestTrace drain() {
+        return new RequestTrace(RequestLog.drain(), EndpointLatencies.drainCalledEndpoints());
+    }
+
+    /**
+     * Runs {@code task} on the current (worker) thread and keeps its requests with the outcome.
+     * Leftovers of earlier tasks on the same thread are discarded first.
+     */
+    public static <T> Traced<T> run(Callable<T> task) {
+        drain();
+        try {
+            T value = task.call();
+            return new Traced<>(value, null, drain());
+        } catch (Throwable failure) {
+            return new Traced<>(null, failure, drain());
+        }
+    }
+
+    /**
+     * Adds this trace to the current thread's request log and called endpoints.
+     */
+    public void restore() {
+        RequestLog.addAll(exchanges, ConfigProvider.getConfig().logBufferSize());
+        EndpointLatencies.markCalled(endpoints);
+    }
+
+    /**
+     * The outcome of a task run by {@link #run(Callable)} together with its requests.
+     */
+    public record Traced<T>(T value, Throwable failure, RequestTrace trace) {
+
+        /**
+         * Restores the trace on the calling thread and returns the value, or throws the failure
+         * wrapped like {@link java.util.concurrent.Future#get()} does.
+         */
+        public T get() throws ExecutionException {
+            trace.restore();
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package reqres_api;
+
+import config.ConfigProvider;
+import io.restassured.http.Headers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reqres_api.latency.EndpointLatencies;
+import reqres_api.logging.RequestLog;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+public class RequestTraceTest {
+
+    @Test
+    @DisplayName("Endpoints called on a worker are moved to the thread that takes the result")
+    public void handsOverWorkerRequests() throws Exception {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> EndpointLatencies.record("GET", "/api/stale/1", 1_000)).get();
+            RequestTrace.Traced<String> traced = worker.submit(() -> RequestTrace.run(() -> {
+                EndpointLatencies.record("GET", "/api/traced/1", 1_000);
+                return "done";
+            })).get();
+            EndpointLatencies.drainCalledEndpoints();
+
+            Assertions.assertEquals("done", traced.get());
+            Assertions.assertEquals(Set.of("GET /api/traced/{id}"), EndpointLatencies.drainCalledEndpoints());
+            Assertions.assertTrue(worker.submit(EndpointLatencies::drainCalledEndpoints).get().isEmpty());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A failure is rethrown on the taking thread like Future.get")
+    public void rethrowsFailure() {
+        RequestTrace.Traced<Object> traced = RequestTrace.run(() -> {
+            throw new AssertionError("boom");
+        });
+
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, traced::get);
+        Assertions.assertEquals("boom", error.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Restoring a trace keeps the request log within its capacity")
+    public void restoreRespectsLogCapacity() {
+        int capacity = ConfigProvider.getConfig().logBufferSize();
+        List<RequestLog.Exchange> exchanges = IntStream.range(0, capacity + 5)
+                .mapToObj(i -> new RequestLog.Exchange("GET", "/api/users/" + i, new Headers(), null,
+                        "HTTP/1.1 200 OK", new Headers(), new byte[0], 100))
+                .toList();
+        RequestLog.clear();
+
+        new RequestTrace(exchanges, Set.of()).restore();
+
+        List<RequestLog.Exchange> kept = RequestLog.drain();
+        Assertions.assertEquals(exchanges.subList(5, exchanges.size()), kept);
+    }
+}
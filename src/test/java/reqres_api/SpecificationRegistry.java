@@ -0,0 +1,96 @@
+package reqres_api;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Builds each request/response specification once and hands out the same instance afterwards.
+ * <p>
+ * Cached specifications are never modified: RestAssured copies them into every new request
+ * via {@code spec(...)}, so they can be shared by any number of concurrent tests.
+ */
+public class SpecificationRegistry {
+
+    private final RestAssuredConfig config;
+    private final List<Filter> filters;
+    private final Map<RequestKey, RequestSpecification> requestSpecs = new ConcurrentHashMap<>();
+    private final Map<ResponseKey, ResponseSpecification> responseSpecs = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param filters added to every request spec, e.g. latency recording
+     */
+    public SpecificationRegistry(RestAssuredConfig config, List<Filter> filters) {
+        this.config = config;
+        this.filters = List.copyOf(filters);
+    }
+
+    public RequestSpecification requestSpec(String baseUri, ContentType contentType) {
+        return lookup(requestSpecs, new RequestKey(baseUri, contentType), key -> new RequestSpecBuilder()
+                .setBaseUri(key.baseUri())
+                .setConfig(config)
+                .setContentType(key.contentType())
+                .addFilters(filters)
+                .build());
+    }
+
+    /**
+     * @param contentType expected response content type, or {@code null} to accept any
+     */
+    public ResponseSpecification responseSpec(int status, ContentType contentType) {
+        return lookup(responseSpecs, new ResponseKey(status, contentType), key -> {
+            ResponseSpecBuilder builder = new ResponseSpecBuilder().expectStatusCode(key.status());
+            if (key.contentType() != null) {
+                builder.expectContentType(key.contentType());
+            }
+            return builder.build();
+        });
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return requestSpecs.size() + responseSpecs.size();
+    }
+
+    private <K, V> V lookup(Map<K, V> specs, K key, Function<K, V> builder) {
+        V spec = specs.get(key);
+        if (spec == null) {
+            boolean[] built = {false};
+            spec = specs.computeIfAbsent(key, k -> {
+                built[0] = true;
+                return builder.apply(k);
+            });
+            if (built[0]) {
+                misses.increment();
+                return spec;
+            }
+        }
+        hits.increment();
+        return spec;
+    }
+
+    private record RequestKey(String baseUri, ContentType contentType) {
+    }
+
+    private record ResponseKey(int status, ContentType contentType) {
+    }
+}
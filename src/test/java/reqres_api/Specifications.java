@@ -1,45 +1,123 @@
 package reqres_api;
 
+import config.ApplicationConfig;
+import config.ConfigProvider;
 import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import reqres_api.cassette.CassetteFilter;
+import reqres_api.latency.LatencyFilter;
+import reqres_api.logging.FailureLogFilter;
 
+import java.util.List;
+
+/**
+ * Request and response specifications shared by the Reqres tests.
+ * <p>
+ * Installed specifications are confined to the calling thread instead of the global
+ * {@link RestAssured#requestSpecification}, so tests can run in parallel without overwriting each other.
+ * Requests must be started with {@link #given()} to pick them up.
+ * Specifications are built once and cached in a {@link SpecificationRegistry}.
+ */
 public class Specifications {
+
+    /**
+     * One pooled client shared by every request spec, see {@link PooledHttpClientFactory}.
+     */
+    private static final RestAssuredConfig HTTP_CONFIG = httpConfig(ConfigProvider.getConfig());
+
+    private static final SpecificationRegistry REGISTRY = new SpecificationRegistry(HTTP_CONFIG, List.of(
+            new LatencyFilter(),
+            new FailureLogFilter(ConfigProvider.getConfig().logBufferSize(), ConfigProvider.getConfig().logBodyLimit()),
+            new CassetteFilter()
+    ));
+
+    /**
+     * Specs for the load generator: the same pooled client without the per-request filters,
+     * whose logging and latency bookkeeping would otherwise be measured as part of each request.
+     */
+    private static final SpecificationRegistry LOAD_REGISTRY = new SpecificationRegistry(HTTP_CONFIG, List.of());
+
+    private static final ThreadLocal<RequestSpecification> REQUEST_SPEC = new ThreadLocal<>();
+    private static final ThreadLocal<ResponseSpecification> RESPONSE_SPEC = new ThreadLocal<>();
+
     public static RequestSpecification requestSpec(String url) {
-        return new RequestSpecBuilder()
-                .setBaseUri(url)
-                .setContentType("application/json")
-                .build();
+        return REGISTRY.requestSpec(url, ContentType.JSON);
+    }
+
+    /**
+     * A request spec without filters, for the open-loop load runs.
+     */
+    public static RequestSpecification loadRequestSpec(String url) {
+        return LOAD_REGISTRY.requestSpec(url, ContentType.JSON);
     }
 
     public static ResponseSpecification responseSpecOK200() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(200)
-                .build();
+        return responseSpec(200);
     }
 
     public static ResponseSpecification responseSpecError400(){
-        return new ResponseSpecBuilder()
-                .expectStatusCode(400)
-                .build();
+        return responseSpec(400);
     }
 
     public static ResponseSpecification responseSpecNotFound404(){
-        return new ResponseSpecBuilder()
-                .expectStatusCode(404)
-                .build();
+        return responseSpec(404);
     }
 
     public static ResponseSpecification responseSpec(int status){
-        return new ResponseSpecBuilder()
-                .expectStatusCode(status)
-                .build();
+        return REGISTRY.responseSpec(status, null);
+    }
+
+    /**
+     * The cache behind the spec factory methods above, e.g. to check its hit/miss counts.
+     */
+    public static SpecificationRegistry registry() {
+        return REGISTRY;
     }
 
+    /**
+     * Installs the specifications for the current thread only.
+     */
     public static void installSpecification(RequestSpecification requestSpec, ResponseSpecification responseSpec) {
-        RestAssured.requestSpecification = requestSpec;
-        RestAssured.responseSpecification = responseSpec;
+        REQUEST_SPEC.set(requestSpec);
+        RESPONSE_SPEC.set(responseSpec);
+    }
+
+    /**
+     * Removes the specifications installed for the current thread.
+     */
+    public static void clearSpecification() {
+        REQUEST_SPEC.remove();
+        RESPONSE_SPEC.remove();
+    }
+
+    /**
+     * Starts a request using the specifications installed for the current thread.
+     */
+    public static RequestSpecification given() {
+        return given(REQUEST_SPEC.get(), RESPONSE_SPEC.get());
+    }
+
+    /**
+     * Starts a request using the given specifications, e.g. from a worker thread that has none installed.
+     */
+    public static RequestSpecification given(RequestSpecification requestSpec, ResponseSpecification responseSpec) {
+        RequestSpecification request = RestAssured.given();
+        if (requestSpec != null) {
+            request.spec(requestSpec);
+        }
+        if (responseSpec != null) {
+            request.response().spec(responseSpec);
+        }
+        return request;
+    }
+
+    private static RestAssuredConfig httpConfig(ApplicationConfig config) {
+        return RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(new PooledHttpClientFactory(config))
+                .reuseHttpClientInstance());
     }
 }
@@ -0,0 +1,206 @@
+package reqres_api.cassette;
+
+import io.restassured.http.Header;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recorded responses of one test class, keyed by a hash of method, path with query and request body.
+ * <p>
+ * File layout: a header ({@code RQCS}, version, entry count), an index of {@code (key, offset)} pairs and
+ * the entries (status, status line, headers, body). A replayed cassette is memory-mapped; only the index
+ * is read up front and each entry is decoded from the mapping when its request is made.
+ */
+public final class Cassette {
+
+    private static final int MAGIC = 0x52514353; // "RQCS"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final Path file;
+    private final CassetteMode mode;
+    // RECORD: responses collected by concurrently running tests, written by save()
+    private final Map<Long, Interaction> recorded = new ConcurrentHashMap<>();
+    // REPLAY: the mapped file and the offset of each entry in it
+    private final ByteBuffer mapped;
+    private final Map<Long, Integer> index;
+
+    private Cassette(Path file, CassetteMode mode, ByteBuffer mapped, Map<Long, Integer> index) {
+        this.file = file;
+        this.mode = mode;
+        this.mapped = mapped;
+        this.index = index;
+    }
+
+    /**
+     * An empty cassette to be filled by {@link #record} and written to {@code file} by {@link #save()}.
+     */
+    public static Cassette forRecording(Path file) {
+        return new Cassette(file, CassetteMode.RECORD, null, Map.of());
+    }
+
+    /**
+     * Maps a recorded cassette for replay.
+     */
+    public static Cassette load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalStateException("Cassette " + file + " not found, record it first with -Dcassette.mode=RECORD");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IllegalStateException("Not a version " + VERSION + " cassette: " + file);
+            }
+            int count = buffer.getInt();
+            Map<Long, Integer> index = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                index.put(buffer.getLong(), buffer.getInt());
+            }
+            return new Cassette(file, CassetteMode.REPLAY, buffer, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map cassette " + file, e);
+        }
+    }
+
+    /**
+     * Hash identifying a request: the first 8 bytes of SHA-256 over method, path with query and body.
+     */
+    public static long key(String method, String pathAndQuery, String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + ' ' + pathAndQuery + '\n').getBytes(StandardCharsets.UTF_8));
+            if (body != null) {
+                digest.update(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public CassetteMode mode() {
+        return mode;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int size() {
+        return mode == CassetteMode.REPLAY ? index.size() : recorded.size();
+    }
+
+    /**
+     * Keeps the first response seen for a request.
+     */
+    public void record(long key, Interaction interaction) {
+        recorded.putIfAbsent(key, interaction);
+    }
+
+    public Optional<Interaction> find(long key) {
+        if (mode != CassetteMode.REPLAY) {
+            return Optional.ofNullable(recorded.get(key));
+        }
+        Integer offset = index.get(key);
+        return offset == null ? Optional.empty() : Optional.of(read(mapped.duplicate().position(offset)));
+    }
+
+    /**
+     * Writes the recorded responses, replacing the previous cassette.
+     */
+    public void save() {
+        if (mode != CassetteMode.RECORD) {
+            throw new IllegalStateException("Only a recording cassette can be saved");
+        }
+        List<Long> keys = new ArrayList<>(recorded.keySet());
+        List<byte[]> entries = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            entries.add(encode(recorded.get(key)));
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeInt(keys.size());
+                int offset = HEADER_BYTES + keys.size() * INDEX_ENTRY_BYTES;
+                for (int i = 0; i < keys.size(); i++) {
+                    out.writeLong(keys.get(i));
+                    out.writeInt(offset);
+                    offset += entries.get(i).length;
+                }
+                for (byte[] entry : entries) {
+                    out.write(entry);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write cassette " + file, e);
+        }
+    }
+
+    private static byte[] encode(Interaction interaction) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(interaction.body().length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(interaction.status());
+            writeString(out, interaction.statusLine());
+            out.writeShort(interaction.headers().size());
+            for (Header header : interaction.headers()) {
+                writeString(out, header.getName());
+                writeString(out, header.getValue());
+            }
+            out.writeInt(interaction.body().length);
+            out.write(interaction.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Interaction read(ByteBuffer buffer) {
+        int status = buffer.getShort();
+        String statusLine = readString(buffer);
+        int headerCount = buffer.getShort();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(readString(buffer), readString(buffer)));
+        }
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new Interaction(status, statusLine, headers, body);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+package reqres_api.cassette;
+
+import config.ConfigProvider;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Opens one cassette per test class, {@code <cassette.dir>/<class name>.cassette}, according to
+ * {@code cassette.mode}, and makes it current for each test's thread. A recording is saved after the
+ * last test of the class.
+ * <p>
+ * The current cassette is inherited by threads a test creates, e.g. the workers of {@code Paginator}.
+ */
+public class CassetteExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CassetteExtension.class);
+    private static final InheritableThreadLocal<Cassette> CURRENT = new InheritableThreadLocal<>();
+
+    static Optional<Cassette> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        CassetteMode mode = CassetteMode.of(ConfigProvider.getConfig().cassetteMode());
+        if (mode == CassetteMode.OFF) {
+            return;
+        }
+        Path file = Path.of(ConfigProvider.getConfig().cassetteDir(), context.getRequiredTestClass().getName() + ".cassette");
+        Cassette cassette = mode == CassetteMode.RECORD ? Cassette.forRecording(file) : Cassette.load(file);
+        context.getStore(NAMESPACE).put(Cassette.class, cassette);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Cassette cassette = context.getStore(NAMESPACE).get(Cassette.class, Cassette.class);
+        if (cassette != null && !context.getRequiredTestMethod().isAnnotationPresent(NoCassette.class)) {
+            CURRENT.set(cassette);
+        } else {
+            // the thread may have inherited a cassette from the thread that created it
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Cassette cassette = context.getStore(NAMESPACE).remove(Cassette.class, Cassette.class);
+        if (cassette != null && cassette.mode() == CassetteMode.RECORD) {
+            cassette.save();
+        }
+    }
+}
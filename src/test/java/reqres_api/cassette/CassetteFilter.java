@@ -0,0 +1,65 @@
+package reqres_api.cassette;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Records responses to, or replays them from, the cassette of the running test class
+ * (see {@link CassetteExtension}). Without a cassette the request goes to the host unchanged.
+ * Added last to every request spec by {@code Specifications}, so the other filters see replayed responses too.
+ */
+public class CassetteFilter implements Filter {
+
+    private static final ObjectMapper CANONICAL_JSON = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Optional<Cassette> cassette = CassetteExtension.current();
+        if (cassette.isEmpty()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        URI uri = URI.create(requestSpec.getURI());
+        String pathAndQuery = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + '?' + uri.getRawQuery();
+        long key = Cassette.key(requestSpec.getMethod(), pathAndQuery, body(requestSpec.getBody()));
+
+        if (cassette.get().mode() == CassetteMode.REPLAY) {
+            return cassette.get().find(key)
+                    .map(Interaction::toResponse)
+                    .orElseThrow(() -> new AssertionError("No recorded response for " + requestSpec.getMethod() + " "
+                            + pathAndQuery + " in " + cassette.get().file() + ", record it with -Dcassette.mode=RECORD"));
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        cassette.get().record(key, Interaction.of(response));
+        return response;
+    }
+
+    /**
+     * JSON bodies are keyed with sorted object keys: bodies built from {@code Map.of} serialize in a different
+     * order on every JVM run.
+     */
+    private static String body(Object body) {
+        if (body == null) {
+            return null;
+        }
+        String text = body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(body);
+        try {
+            return CANONICAL_JSON.writeValueAsString(CANONICAL_JSON.readValue(text, Object.class));
+        } catch (JsonProcessingException e) {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package reqres_api.cassette;
+
+import java.util.Locale;
+
+/**
+ * What the {@link CassetteFilter} does with the requests of a test class.
+ */
+public enum CassetteMode {
+    /**
+     * Requests go to the host, nothing is recorded.
+     */
+    OFF,
+    /**
+     * Requests go to the host and the responses are written to the class cassette.
+     */
+    RECORD,
+    /**
+     * Responses are served from the class cassette; a request that was not recorded fails.
+     */
+    REPLAY;
+
+    /**
+     * The mode named by the {@code cassette.mode} setting, case-insensitive.
+     */
+    public static CassetteMode of(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("cassette.mode must be OFF, RECORD or REPLAY: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package reqres_api.cassette;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+public class CassetteTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Recorded responses are replayed from the saved cassette")
+    public void recordAndReplay() {
+        Path file = dir.resolve("Example.cassette");
+        long listUsers = Cassette.key("GET", "/api/users?page=2", null);
+        long register = Cassette.key("POST", "/api/register", "{\"email\":\"eve.holt@reqres.in\"}");
+        Cassette recording = Cassette.forRecording(file);
+        recording.record(listUsers, interaction(200, "{\"page\":2}"));
+        recording.record(register, interaction(400, "{\"error\":\"Missing password\"}"));
+        recording.record(register, interaction(500, "ignored, first response wins"));
+        recording.save();
+
+        Cassette replay = Cassette.load(file);
+
+        Assertions.assertEquals(2, replay.size());
+        Response response = replay.find(register).orElseThrow().toResponse();
+        Assertions.assertEquals(400, response.getStatusCode());
+        Assertions.assertEquals("Missing password", response.jsonPath().getString("error"));
+        Assertions.assertEquals("application/json; charset=utf-8", response.getHeader("Content-Type"));
+        Assertions.assertEquals(2, replay.find(listUsers).orElseThrow().toResponse().jsonPath().getInt("page"));
+        Assertions.assertTrue(replay.find(Cassette.key("GET", "/api/users?page=3", null)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Request key depends on method, path with query and body")
+    public void keyIdentifiesRequest() {
+        long key = Cassette.key("POST", "/api/users", "{\"name\":\"morpheus\"}");
+
+        Assertions.assertEquals(key, Cassette.key("POST", "/api/users", "{\"name\":\"morpheus\"}"));
+        Assertions.assertNotEquals(key, Cassette.key("PUT", "/api/users", "{\"name\":\"morpheus\"}"));
+        Assertions.assertNotEquals(key, Cassette.key("POST", "/api/users?page=1", "{\"name\":\"morpheus\"}"));
+        Assertions.assertNotEquals(key, Cassette.key("POST", "/api/users", "{\"name\":\"neo\"}"));
+    }
+
+    @Test
+    @DisplayName("Replaying a missing cassette fails with a hint to record it")
+    public void missingCassette() {
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class,
+                () -> Cassette.load(dir.resolve("Missing.cassette")));
+        Assertions.assertTrue(error.getMessage().contains("cassette.mode=RECORD"));
+    }
+
+    private static Interaction interaction(int status, String body) {
+        return new Interaction(status, "HTTP/1.1 " + status, List.of(new Header("Content-Type", "application/json; charset=utf-8")),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
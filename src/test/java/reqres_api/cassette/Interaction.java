@@ -0,0 +1,32 @@
+package reqres_api.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.List;
+
+/**
+ * A recorded response, rebuilt into a RestAssured {@link Response} on replay.
+ */
+public record Interaction(int status, String statusLine, List<Header> headers, byte[] body) {
+
+    static Interaction of(Response response) {
+        return new Interaction(response.getStatusCode(), response.getStatusLine(),
+                response.getHeaders().asList(), response.asByteArray());
+    }
+
+    Response toResponse() {
+        Headers recorded = new Headers(headers);
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine(statusLine)
+                .setHeaders(recorded)
+                .setBody(body);
+        if (recorded.hasHeaderWithName("Content-Type")) {
+            builder.setContentType(recorded.getValue("Content-Type"));
+        }
+        return builder.build();
+    }
+}
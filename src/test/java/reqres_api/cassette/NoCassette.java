@@ -0,0 +1,15 @@
+package reqres_api.cassette;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test that must always talk to the host, e.g. one that checks timing or server clocks,
+ * which a replayed response cannot reproduce.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NoCassette {
+}
@@ -0,0 +1,12 @@
+package reqres_api.contract;
+
+import java.util.Map;
+
+/**
+ * One contract case: a request and what its response must contain.
+ *
+ * @param body   JSON request body, {@code null} for none
+ * @param expect JSON paths of the response mapped to their expected values
+ */
+public record ContractCase(String name, String method, String path, String body, int status, Map<String, Object> expect) {
+}
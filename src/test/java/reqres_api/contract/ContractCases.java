@@ -0,0 +1,122 @@
+package reqres_api.contract;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reads contract cases from a classpath file one line at a time, so files with any number of cases
+ * are never held in memory. The stream must be closed to release the file.
+ * <p>
+ * {@code .jsonl}: one object per line with {@code name, method, path, body, status, expect}.<br>
+ * {@code .csv}: a header line, then {@code name,method,path,status,body,expect} where {@code body} and
+ * {@code expect} are JSON in double-quoted fields ({@code ""} escapes a quote).
+ * Blank lines and lines starting with {@code #} are skipped in both formats.
+ */
+public final class ContractCases {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> EXPECT = new TypeReference<>() {
+    };
+
+    private ContractCases() {
+    }
+
+    public static Stream<ContractCase> stream(String resource) {
+        InputStream in = ContractCases.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Contract file not found on the classpath: " + resource);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        boolean csv = resource.endsWith(".csv");
+        Stream<String> lines = reader.lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"));
+        if (csv) {
+            lines = lines.skip(1);
+        }
+        return lines
+                .map(line -> csv ? fromCsv(line) : fromJson(line))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    static ContractCase fromJson(String line) {
+        try {
+            JsonNode node = MAPPER.readTree(line);
+            JsonNode body = node.get("body");
+            String method = node.path("method").asText("GET");
+            String path = node.path("path").asText();
+            return new ContractCase(
+                    node.path("name").asText(method + " " + path),
+                    method,
+                    path,
+                    body == null || body.isNull() ? null : MAPPER.writeValueAsString(body),
+                    node.path("status").asInt(200),
+                    node.has("expect") ? MAPPER.convertValue(node.get("expect"), EXPECT) : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not a contract case: " + line, e);
+        }
+    }
+
+    static ContractCase fromCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 6) {
+            throw new IllegalArgumentException("Expected 6 fields (name,method,path,status,body,expect): " + line);
+        }
+        try {
+            String body = fields.get(4);
+            String expect = fields.get(5);
+            return new ContractCase(fields.get(0), fields.get(1), fields.get(2),
+                    body.isEmpty() ? null : body,
+                    Integer.parseInt(fields.get(3)),
+                    expect.isEmpty() ? Map.of() : MAPPER.readValue(expect, EXPECT));
+        } catch (JsonProcessingException | NumberFormatException e) {
+            throw new IllegalArgumentException("Not a contract case: " + line, e);
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,148 @@
+package reqres_api.contract;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DynamicTest;
+import reqres_api.RequestTrace;
+import reqres_api.Specifications;
+import reqres_api.latency.LatencyReportExtension;
+import reqres_api.logging.RequestLog;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Turns a stream of {@link ContractCase}s into JUnit dynamic tests.
+ * <p>
+ * Cases are pulled from the source only as JUnit asks for the next test, and at most {@code concurrency}
+ * requests are in flight: the runner keeps a look-ahead window of that many cases executing on a pool while
+ * JUnit reports the oldest one. Memory stays bounded however large the case file is. Requests go through
+ * {@link Specifications#given(RequestSpecification, io.restassured.specification.ResponseSpecification)},
+ * so the status is checked by the usual response spec and all request filters apply.
+ * <p>
+ * Each case's requests are handed from the pool thread to its dynamic test through a {@link RequestTrace}.
+ * The dynamic test prints them if the case fails and attaches their latencies, since the extensions of
+ * {@code BaseApiTest} only see the enclosing {@code @TestFactory}.
+ */
+public class ContractRunner {
+
+    private final RequestSpecification requestSpec;
+    private final int concurrency;
+
+    public ContractRunner(RequestSpecification requestSpec, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.requestSpec = requestSpec;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Dynamic tests for the cases; closing the returned stream closes {@code cases} and stops the workers.
+     */
+    public Stream<DynamicTest> tests(Stream<ContractCase> cases) {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency, task -> {
+            Thread thread = new Thread(task, "contract-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Window window = new Window(cases.iterator(), pool);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(window, Spliterator.ORDERED), false)
+                .onClose(pool::shutdownNow)
+                .onClose(cases::close);
+    }
+
+    /**
+     * Runs one case and checks the expected fields; the status is checked by the response spec.
+     */
+    void check(ContractCase contract) {
+        RequestSpecification request = Specifications.given(requestSpec, Specifications.responseSpec(contract.status()));
+        if (contract.body() != null) {
+            request.body(contract.body());
+        }
+        Response response = request.when().request(contract.method(), contract.path())
+                .then()
+                .extract().response();
+        if (contract.expect().isEmpty()) {
+            return;
+        }
+        JsonPath json = response.jsonPath();
+        for (Map.Entry<String, Object> field : contract.expect().entrySet()) {
+            Object actual = json.get(field.getKey());
+            if (!Objects.equals(String.valueOf(field.getValue()), String.valueOf(actual))) {
+                throw new AssertionError(contract.name() + ": expected " + field.getKey() + " = " + field.getValue()
+                        + " but was " + actual);
+            }
+        }
+    }
+
+    private final class Window implements Iterator<DynamicTest> {
+
+        private final Iterator<ContractCase> cases;
+        private final ExecutorService pool;
+        private final Deque<Pending> inFlight = new ArrayDeque<>();
+
+        Window(Iterator<ContractCase> cases, ExecutorService pool) {
+            this.cases = cases;
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public DynamicTest next() {
+            fill();
+            Pending pending = inFlight.pollFirst();
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+            return DynamicTest.dynamicTest(pending.contract().name(), () -> report(pending));
+        }
+
+        private void fill() {
+            while (inFlight.size() < concurrency && cases.hasNext()) {
+                ContractCase contract = cases.next();
+                inFlight.addLast(new Pending(contract, pool.submit(() -> RequestTrace.run(() -> {
+                    check(contract);
+                    return null;
+                }))));
+            }
+        }
+    }
+
+    /**
+     * Waits for the case on the reporting thread, with its requests moved over from the pool thread.
+     */
+    private static void report(Pending pending) throws Throwable {
+        RequestLog.clear();
+        try {
+            pending.result().get().get();
+            RequestLog.clear();
+        } catch (ExecutionException e) {
+            RequestLog.flush(pending.contract().name());
+            throw e.getCause();
+        } finally {
+            LatencyReportExtension.attachCalledEndpoints();
+        }
+    }
+
+    private record Pending(ContractCase contract, Future<RequestTrace.Traced<Void>> result) {
+    }
+}
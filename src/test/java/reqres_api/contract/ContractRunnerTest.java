@@ -0,0 +1,86 @@
+package reqres_api.contract;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import reqres_api.Specifications;
+import reqres_api.stub.ReqresStub;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class ContractRunnerTest {
+
+    // always the stub: the expectations below rely on its canned users, not on the live site
+    private final ContractRunner runner = new ContractRunner(Specifications.requestSpec(ReqresStub.local().url()), 4);
+
+    @Test
+    @DisplayName("CSV fields may hold quoted JSON")
+    public void parsesCsv() {
+        ContractCase contract = ContractCases.fromCsv(
+                "Register,POST,/api/register,200,\"{\"\"email\"\": \"\"a,b\"\"}\",\"{\"\"id\"\": 4}\"");
+
+        Assertions.assertEquals("POST", contract.method());
+        Assertions.assertEquals("{\"email\": \"a,b\"}", contract.body());
+        Assertions.assertEquals(200, contract.status());
+        Assertions.assertEquals(Map.of("id", 4), contract.expect());
+    }
+
+    @Test
+    @DisplayName("JSONL case defaults to GET 200 and keeps the body as JSON")
+    public void parsesJsonLine() {
+        ContractCase contract = ContractCases.fromJson("{\"path\": \"/api/users\", \"body\": {\"name\": \"neo\"}}");
+
+        Assertions.assertEquals("GET /api/users", contract.name());
+        Assertions.assertEquals(200, contract.status());
+        Assertions.assertEquals("{\"name\":\"neo\"}", contract.body());
+        Assertions.assertTrue(contract.expect().isEmpty());
+    }
+
+    @Test
+    @DisplayName("A wrong expected field fails its dynamic test")
+    public void reportsMismatch() {
+        ContractCase contract = new ContractCase("Single user", "GET", "/api/users/2", null, 200,
+                Map.of("data.first_name", "Neo"));
+
+        try (Stream<DynamicTest> tests = runner.tests(Stream.of(contract))) {
+            DynamicTest test = tests.findFirst().orElseThrow();
+            AssertionError error = Assertions.assertThrows(AssertionError.class, () -> test.getExecutable().execute());
+            Assertions.assertTrue(error.getMessage().contains("data.first_name = Neo but was Janet"), error.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Cases are pulled from the source only as far as the look-ahead window")
+    public void boundedLookAhead() throws Throwable {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<ContractCase> cases = IntStream.rangeClosed(1, 1000)
+                .peek(i -> pulled.incrementAndGet())
+                .mapToObj(i -> new ContractCase("User " + i, "GET", "/api/users/2", null, 200, Map.of()));
+
+        try (Stream<DynamicTest> tests = runner.tests(cases)) {
+            Iterator<DynamicTest> iterator = tests.iterator();
+            iterator.next().getExecutable().execute();
+            iterator.next().getExecutable().execute();
+
+            Assertions.assertTrue(pulled.get() <= 6, "pulled " + pulled.get());
+        }
+    }
+
+    @Test
+    @DisplayName("The stub answers malformed paging and delay parameters with 400")
+    public void rejectsMalformedQuery() throws Throwable {
+        Stream<ContractCase> cases = Stream.of("/api/users?delay=soon", "/api/users?per_page=0", "/api/users?page=0")
+                .map(path -> new ContractCase(path, "GET", path, null, 400, Map.of()));
+
+        try (Stream<DynamicTest> tests = runner.tests(cases)) {
+            for (DynamicTest test : tests.toList()) {
+                test.getExecutable().execute();
+            }
+        }
+    }
+}
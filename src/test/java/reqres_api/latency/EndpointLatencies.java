@@ -0,0 +1,80 @@
+package reqres_api.latency;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Run-wide latency histograms per endpoint ({@code GET /api/users/{id}}), in microseconds.
+ * <p>
+ * Recording into a {@link ConcurrentHistogram} is wait-free, so parallel tests never contend on it.
+ * The endpoints called by the current thread are remembered until {@link #drainCalledEndpoints()},
+ * which lets a test report only what it touched.
+ */
+public final class EndpointLatencies {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Set<String>> CALLED = ThreadLocal.withInitial(LinkedHashSet::new);
+
+    private EndpointLatencies() {
+    }
+
+    public static void record(String method, String path, long nanos) {
+        String endpoint = method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+        HISTOGRAMS.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_MICROS, 3))
+                .recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_MICROS));
+        CALLED.get().add(endpoint);
+    }
+
+    /**
+     * Endpoints called from this thread since the last drain.
+     */
+    public static Set<String> drainCalledEndpoints() {
+        Set<String> called = Set.copyOf(CALLED.get());
+        CALLED.get().clear();
+        return called;
+    }
+
+    /**
+     * Adds endpoints drained from another thread to this thread's called endpoints.
+     */
+    public static void markCalled(Collection<String> endpoints) {
+        CALLED.get().addAll(endpoints);
+    }
+
+    /**
+     * Percentile table of the run so far for the given endpoints.
+     */
+    public static String summary(Collection<String> endpoints) {
+        StringBuilder summary = new StringBuilder(String.format("%-32s %8s %10s %10s %10s %10s%n",
+                "endpoint", "count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        endpoints.stream().sorted().forEach(endpoint -> {
+            Histogram histogram = HISTOGRAMS.get(endpoint);
+            if (histogram == null) {
+                return;
+            }
+            Histogram snapshot = histogram.copy();
+            summary.append(String.format("%-32s %8d %10.2f %10.2f %10.2f %10.2f%n", endpoint,
+                    snapshot.getTotalCount(),
+                    millis(snapshot.getValueAtPercentile(50)),
+                    millis(snapshot.getValueAtPercentile(90)),
+                    millis(snapshot.getValueAtPercentile(99)),
+                    millis(snapshot.getMaxValue())));
+        });
+        return summary.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,27 @@
+package reqres_api.latency;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Records the latency of every request into {@link EndpointLatencies}. Added to every request spec by {@code Specifications}.
+ */
+public class LatencyFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            EndpointLatencies.record(requestSpec.getMethod(), URI.create(requestSpec.getURI()).getPath(), System.nanoTime() - start);
+        }
+    }
+}
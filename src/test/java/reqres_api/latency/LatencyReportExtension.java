@@ -0,0 +1,30 @@
+package reqres_api.latency;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Set;
+
+/**
+ * Attaches the run's latency percentiles for the endpoints a test called to its Allure report,
+ * so endpoint regressions are visible when comparing runs.
+ */
+public class LatencyReportExtension implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        attachCalledEndpoints();
+    }
+
+    /**
+     * Attaches the percentiles of the endpoints called from this thread since the last report,
+     * e.g. at the end of a dynamic test which the extension callbacks do not see.
+     */
+    public static void attachCalledEndpoints() {
+        Set<String> endpoints = EndpointLatencies.drainCalledEndpoints();
+        if (!endpoints.isEmpty()) {
+            Allure.addAttachment("Latency percentiles", "text/plain", EndpointLatencies.summary(endpoints), ".txt");
+        }
+    }
+}
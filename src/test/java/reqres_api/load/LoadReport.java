@@ -0,0 +1,76 @@
+package reqres_api.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of an {@link OpenLoopLoadGenerator} run: a latency histogram (nanoseconds) and error count per scenario,
+ * and how often each distinct failure (scenario, exception type and message) occurred.
+ */
+public class LoadReport {
+
+    private final int targetRate;
+    private final Duration elapsed;
+    private final Map<ReqresScenario, Histogram> latencies;
+    private final Map<ReqresScenario, Long> errors;
+    private final Map<String, Long> causes;
+
+    /**
+     * @param elapsed the sending window, from the first scheduled request to the last
+     */
+    LoadReport(int targetRate, Duration elapsed, Map<ReqresScenario, Histogram> latencies,
+               Map<ReqresScenario, Long> errors, Map<String, Long> causes) {
+        this.targetRate = targetRate;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.causes = causes;
+    }
+
+    public Histogram latency(ReqresScenario scenario) {
+        return latencies.get(scenario);
+    }
+
+    public long requests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long errors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Failure descriptions and their counts.
+     */
+    public Map<String, Long> causes() {
+        return causes;
+    }
+
+    /**
+     * Requests per second over the sending window.
+     */
+    public double achievedRate() {
+        return elapsed.isZero() ? requests() : requests() / (elapsed.toNanos() / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("target %d req/s, achieved %.1f req/s, %d requests, %d errors%n",
+                targetRate, achievedRate(), requests(), errors()));
+        report.append(String.format("%-12s %8s %8s %10s %10s %10s %10s%n", "scenario", "count", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        latencies.forEach((scenario, histogram) -> report.append(String.format("%-12s %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                scenario, histogram.getTotalCount(), errors.get(scenario),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()))));
+        causes.forEach((cause, count) -> report.append(String.format("%8d x %s%n", count, cause)));
+        return report.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,126 @@
+package reqres_api.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives {@link ReqresScenario}s open-loop: requests are started on a fixed schedule at the configured rate,
+ * whether or not earlier ones have completed, so a slow server shows up as latency instead of a lower rate.
+ * <p>
+ * Latency is measured from the request's scheduled start, not from when a thread got to it, which keeps
+ * queueing delay in the numbers (no coordinated omission). Recording goes to HdrHistogram {@link Recorder}s,
+ * which are wait-free for the many request threads.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int MAX_CAUSE_LENGTH = 160;
+
+    private final String url;
+    private final String api;
+    private final List<ReqresScenario> scenarios;
+    private final int ratePerSecond;
+    private final Duration duration;
+
+    public OpenLoopLoadGenerator(String url, String api, List<ReqresScenario> scenarios, int ratePerSecond, Duration duration) {
+        if (scenarios.isEmpty() || ratePerSecond < 1) {
+            throw new IllegalArgumentException("Need at least one scenario and a positive rate");
+        }
+        this.url = url;
+        this.api = api;
+        this.scenarios = List.copyOf(scenarios);
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        // one unmeasured call per scenario, so class loading and connection setup don't land in the histograms
+        for (ReqresScenario scenario : scenarios) {
+            scenario.execute(url, api);
+        }
+
+        Map<ReqresScenario, Recorder> latencies = new EnumMap<>(ReqresScenario.class);
+        Map<ReqresScenario, LongAdder> errors = new EnumMap<>(ReqresScenario.class);
+        Map<String, LongAdder> causes = new ConcurrentHashMap<>();
+        for (ReqresScenario scenario : scenarios) {
+            latencies.put(scenario, new Recorder(MAX_LATENCY_NANOS, 3));
+            errors.put(scenario, new LongAdder());
+        }
+
+        // Java 17 has no virtual threads: a cached pool grows with the number of requests in flight instead
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService requests = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "load-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long total = duration.toSeconds() * ratePerSecond;
+        long start = System.nanoTime();
+        long sendEnd = start;
+        try {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                ReqresScenario scenario = scenarios.get((int) (i % scenarios.size()));
+                requests.execute(() -> {
+                    try {
+                        scenario.execute(url, api);
+                    } catch (Exception | AssertionError e) {
+                        // RestAssured rethrows checked exceptions such as pool timeouts unchecked-style
+                        errors.get(scenario).increment();
+                        causes.computeIfAbsent(scenario + " " + describe(e), key -> new LongAdder()).increment();
+                    }
+                    latencies.get(scenario).recordValue(Math.min(System.nanoTime() - intendedStart, MAX_LATENCY_NANOS));
+                });
+            }
+            sendEnd = System.nanoTime();
+        } finally {
+            requests.shutdown();
+        }
+        if (!requests.awaitTermination(1, TimeUnit.MINUTES)) {
+            requests.shutdownNow();
+        }
+
+        Map<ReqresScenario, Histogram> histograms = new EnumMap<>(ReqresScenario.class);
+        Map<ReqresScenario, Long> errorCounts = new EnumMap<>(ReqresScenario.class);
+        latencies.forEach((scenario, recorder) -> histograms.put(scenario, recorder.getIntervalHistogram()));
+        errors.forEach((scenario, count) -> errorCounts.put(scenario, count.sum()));
+        Map<String, Long> causeCounts = new TreeMap<>();
+        causes.forEach((cause, count) -> causeCounts.put(cause, count.sum()));
+        // the rate is what was sent in the sending window, the drain of in-flight requests is not part of it
+        return new LoadReport(ratePerSecond, Duration.ofNanos(sendEnd - start), histograms, errorCounts, causeCounts);
+    }
+
+    /**
+     * Exception type and the first line of its message, short enough to group equal failures.
+     */
+    private static String describe(Throwable e) {
+        String message = String.valueOf(e.getMessage()).strip();
+        int newline = message.indexOf('\n');
+        if (newline >= 0) {
+            message = message.substring(0, newline).strip();
+        }
+        if (message.length() > MAX_CAUSE_LENGTH) {
+            message = message.substring(0, MAX_CAUSE_LENGTH) + "...";
+        }
+        return e.getClass().getSimpleName() + ": " + message;
+    }
+}
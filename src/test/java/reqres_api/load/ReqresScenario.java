@@ -0,0 +1,57 @@
+package reqres_api.load;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import reqres_api.Specifications;
+import reqres_api.registration.Registration;
+import reqres_api.user.UserTime;
+
+import java.util.Map;
+
+/**
+ * The smoke-test calls of {@code ReqresPojoTest}/{@code ReqresNoPojoTest} as repeatable scenarios:
+ * same request bodies, same {@link Specifications} expectations. A failed expectation throws an {@link AssertionError}.
+ * Requests use {@link Specifications#loadRequestSpec(String)}, so no test filter adds to the measured latency.
+ */
+public enum ReqresScenario {
+
+    REGISTER(200) {
+        @Override
+        Response send(RequestSpecification request, String api) {
+            return request.body(new Registration("eve.holt@reqres.in", "pistol")).post(api + "/register");
+        }
+    },
+    LOGIN(200) {
+        @Override
+        Response send(RequestSpecification request, String api) {
+            return request.body(Map.of("email", "eve.holt@reqres.in", "password", "cityslicka")).post(api + "/login");
+        }
+    },
+    LIST_USERS(200) {
+        @Override
+        Response send(RequestSpecification request, String api) {
+            return request.queryParam("page", 2).get(api + "/users");
+        }
+    },
+    UPDATE_USER(200) {
+        @Override
+        Response send(RequestSpecification request, String api) {
+            return request.body(new UserTime("morpheus", "zion resident")).put(api + "/users/2");
+        }
+    };
+
+    private final int expectedStatus;
+
+    ReqresScenario(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    abstract Response send(RequestSpecification request, String api);
+
+    public Response execute(String url, String api) {
+        Response response = send(Specifications.given(Specifications.loadRequestSpec(url), Specifications.responseSpec(expectedStatus)), api);
+        // read the body so the pooled connection is released even though nothing inspects it
+        response.asByteArray();
+        return response;
+    }
+}
@@ -0,0 +1,38 @@
+package reqres_api.logging;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.Optional;
+
+/**
+ * Prints the requests a test made only when it fails, see {@link FailureLogFilter}.
+ */
+public class FailureLogExtension implements BeforeEachCallback, TestWatcher {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestLog.clear();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        RequestLog.flush(context.getDisplayName());
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        RequestLog.clear();
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        RequestLog.clear();
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        RequestLog.clear();
+    }
+}
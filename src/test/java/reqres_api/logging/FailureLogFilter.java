@@ -0,0 +1,45 @@
+package reqres_api.logging;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Replaces {@code .log().all()}: keeps each exchange in the thread's {@link RequestLog} instead of printing it,
+ * to be shown only if the test fails. Added to every request spec by {@code Specifications}.
+ */
+public class FailureLogFilter implements Filter {
+
+    private final int capacity;
+    private final int bodyLimit;
+
+    /**
+     * @param capacity  exchanges kept per thread, older ones are dropped
+     * @param bodyLimit characters printed of each request/response body
+     */
+    public FailureLogFilter(int capacity, int bodyLimit) {
+        this.capacity = capacity;
+        this.bodyLimit = bodyLimit;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        // kept raw, RequestLog formats only the exchanges of failed tests
+        RequestLog.add(new RequestLog.Exchange(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                requestSpec.getHeaders(),
+                requestSpec.getBody(),
+                response.getStatusLine(),
+                response.getHeaders(),
+                response.asByteArray(),
+                bodyLimit
+        ), capacity);
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package reqres_api.logging;
+
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-thread ring buffer of the last request/response exchanges, printed only when a test fails.
+ * <p>
+ * Exchanges are kept as the raw values the filter saw and formatted on a single background thread at flush time,
+ * so green tests pay neither the formatting nor the console I/O.
+ */
+public final class RequestLog {
+
+    private static final ThreadLocal<Deque<Exchange>> BUFFER = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ExecutorService PRINTER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "request-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            PRINTER.shutdown();
+            try {
+                PRINTER.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    private RequestLog() {
+    }
+
+    static void add(Exchange exchange, int capacity) {
+        Deque<Exchange> buffer = BUFFER.get();
+        if (buffer.size() >= capacity) {
+            buffer.pollFirst();
+        }
+        buffer.addLast(exchange);
+    }
+
+    public static void clear() {
+        BUFFER.get().clear();
+    }
+
+    /**
+     * Removes and returns the current thread's exchanges, e.g. to hand a worker's requests to the test thread.
+     */
+    public static List<Exchange> drain() {
+        Deque<Exchange> buffer = BUFFER.get();
+        List<Exchange> exchanges = List.copyOf(buffer);
+        buffer.clear();
+        return exchanges;
+    }
+
+    /**
+     * Appends exchanges drained from another thread, keeping at most {@code capacity} of the newest.
+     */
+    public static void addAll(List<Exchange> exchanges, int capacity) {
+        exchanges.forEach(exchange -> add(exchange, capacity));
+    }
+
+    /**
+     * Hands the current thread's exchanges to the background printer and empties the buffer.
+     */
+    public static void flush(String title) {
+        Deque<Exchange> buffer = BUFFER.get();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<Exchange> exchanges = new ArrayList<>(buffer);
+        buffer.clear();
+        PRINTER.execute(() -> {
+            StringBuilder out = new StringBuilder("===== Requests of failed test ").append(title).append(" =====\n");
+            exchanges.forEach(exchange -> exchange.appendTo(out));
+            System.out.print(out);
+        });
+    }
+
+    /**
+     * One request and its response as the filter saw them; headers and bodies are only turned into text,
+     * and bodies truncated to {@code bodyLimit} characters, when the exchange is printed.
+     */
+    public record Exchange(String method, String uri, Headers requestHeaders, Object requestBody,
+                           String statusLine, Headers responseHeaders, byte[] responseBody, int bodyLimit) {
+
+        void appendTo(StringBuilder out) {
+            out.append("Request: ").append(method).append(' ').append(uri).append('\n')
+                    .append(requestHeaders).append('\n');
+            if (requestBody != null) {
+                out.append(truncate(requestBody instanceof byte[] bytes
+                        ? new String(bytes, StandardCharsets.UTF_8)
+                        : String.valueOf(requestBody))).append('\n');
+            }
+            out.append("Response: ").append(statusLine).append('\n')
+                    .append(responseHeaders).append('\n')
+                    .append(truncate(new String(responseBody, StandardCharsets.UTF_8))).append("\n\n");
+        }
+
+        private String truncate(String text) {
+            return text.length() <= bodyLimit ? text : text.substring(0, bodyLimit) + "... (" + text.length() + " chars)";
+        }
+    }
+}
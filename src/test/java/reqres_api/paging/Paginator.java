@@ -0,0 +1,99 @@
+package reqres_api.paging;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
+import reqres_api.RequestTrace;
+import reqres_api.Specifications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Fetches every page of a paginated reqres collection such as {@code /api/users} or {@code /api/unknown}.
+ * <p>
+ * The first page is read to learn {@code total_pages}; the remaining pages are then requested concurrently
+ * on at most {@link #parallelism(int)} threads and merged back in page order. The requests made by the workers
+ * are handed to the calling thread through {@link RequestTrace}, so the test's failure log and latency report
+ * include them.
+ */
+public class Paginator<T> {
+
+    private final RequestSpecification requestSpec;
+    private final String path;
+    private final Class<T> type;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public Paginator(RequestSpecification requestSpec, String path, Class<T> type) {
+        this.requestSpec = requestSpec;
+        this.path = path;
+        this.type = type;
+    }
+
+    public Paginator<T> parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * All elements of the collection, in page order.
+     */
+    public Stream<T> stream() {
+        JsonPath first = page(1);
+        int totalPages = first.getInt("total_pages");
+        List<T> firstPage = first.getList("data", type);
+        if (totalPages <= 1) {
+            return firstPage.stream();
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, totalPages - 1), task -> {
+            Thread thread = new Thread(task, "paginator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<RequestTrace.Traced<List<T>>>> pages = new ArrayList<>(totalPages - 1);
+            for (int page = 2; page <= totalPages; page++) {
+                int number = page;
+                pages.add(pool.submit(() -> RequestTrace.run(() -> page(number).getList("data", type))));
+            }
+
+            Stream<T> all = firstPage.stream();
+            for (Future<RequestTrace.Traced<List<T>>> page : pages) {
+                all = Stream.concat(all, page.get().get().stream());
+            }
+            return all;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + path, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssertionError assertion) {
+                throw assertion;
+            }
+            throw new IllegalStateException("Could not fetch a page of " + path, e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public List<T> fetchAll() {
+        return stream().toList();
+    }
+
+    private JsonPath page(int number) {
+        // worker threads have no installed specification, so pass ours explicitly
+        return Specifications.given(requestSpec, Specifications.responseSpecOK200())
+                .queryParam("page", number)
+                .when()
+                .get(path)
+                .then()
+                .extract().jsonPath();
+    }
+}
@@ -0,0 +1,180 @@
+package reqres_api.path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A path expression in the subset of GPath used by the tests, parsed once into steps and evaluated
+ * against a Jackson tree without re-reading the body or interpreting Groovy.
+ * <p>
+ * Supported: fields ({@code data.email}), indexes including negative ones from the end ({@code data[0]},
+ * {@code data[-1].id}) and projections, where a field applied to an array collects it from every element
+ * ({@code data.year} gives the list of years). Values are returned like {@code JsonPath.get}: strings,
+ * Integer/Long, Float (Double when out of float range), Boolean, null, Lists and Maps.
+ */
+public final class CompiledPath {
+
+    private static final Map<String, CompiledPath> COMPILED = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final Step[] steps;
+
+    private CompiledPath(String expression, Step[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * The compiled form of {@code expression}, parsed on first use and cached for the JVM.
+     */
+    public static CompiledPath of(String expression) {
+        return COMPILED.computeIfAbsent(expression, CompiledPath::compile);
+    }
+
+    static CompiledPath compile(String expression) {
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                if (i == 0 || i == length - 1 || expression.charAt(i + 1) == '.') {
+                    throw invalid(expression, "empty field name");
+                }
+                i++;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw invalid(expression, "unclosed [");
+                }
+                try {
+                    steps.add(new Index(Integer.parseInt(expression.substring(i + 1, end).trim())));
+                } catch (NumberFormatException e) {
+                    throw invalid(expression, "index must be an integer");
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                steps.add(new Field(expression.substring(i, end)));
+                i = end;
+            }
+        }
+        return new CompiledPath(expression, steps.toArray(new Step[0]));
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * The value at this path, {@code null} if it is missing.
+     */
+    public Object evaluate(JsonNode root) {
+        return toJava(select(root));
+    }
+
+    /**
+     * The node at this path, {@link MissingNode} if it is missing.
+     */
+    public JsonNode select(JsonNode root) {
+        JsonNode node = root;
+        for (Step step : steps) {
+            node = step.apply(node);
+        }
+        return node;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    static Object toJava(JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isInt()) {
+            return node.intValue();
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToLong() ? node.longValue() : node.bigIntegerValue();
+        }
+        if (node.isNumber()) {
+            // JsonPath's default FLOAT_AND_DOUBLE: a Float unless the value is out of float range
+            float value = node.floatValue();
+            return Float.isInfinite(value) ? (Object) node.doubleValue() : (Object) value;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>(node.size());
+            node.forEach(element -> list.add(toJava(element)));
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            map.put(field.getKey(), toJava(field.getValue()));
+        }
+        return map;
+    }
+
+    private static IllegalArgumentException invalid(String expression, String reason) {
+        return new IllegalArgumentException("Invalid path '" + expression + "': " + reason);
+    }
+
+    private interface Step {
+        JsonNode apply(JsonNode node);
+    }
+
+    private record Field(String name) implements Step {
+
+        @Override
+        public JsonNode apply(JsonNode node) {
+            if (node.isObject()) {
+                JsonNode value = node.get(name);
+                return value == null ? MissingNode.getInstance() : value;
+            }
+            if (node.isArray()) {
+                // projection: the field of every element, null where an element has none
+                ArrayNode values = JsonNodeFactory.instance.arrayNode(node.size());
+                for (JsonNode element : node) {
+                    JsonNode value = apply(element);
+                    values.add(value.isMissingNode() ? NullNode.getInstance() : value);
+                }
+                return values;
+            }
+            return MissingNode.getInstance();
+        }
+    }
+
+    private record Index(int index) implements Step {
+
+        @Override
+        public JsonNode apply(JsonNode node) {
+            if (!node.isArray()) {
+                return MissingNode.getInstance();
+            }
+            int position = index < 0 ? node.size() + index : index;
+            JsonNode value = position >= 0 ? node.get(position) : null;
+            return value == null ? MissingNode.getInstance() : value;
+        }
+    }
+}
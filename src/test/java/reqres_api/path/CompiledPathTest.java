@@ -0,0 +1,79 @@
+package reqres_api.path;
+
+import io.restassured.path.json.JsonPath;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static reqres_api.path.JsonBodyMatcher.jsonBody;
+
+public class CompiledPathTest {
+
+    private static final String PAGE = """
+            {"page": 2, "total": 12, "ratio": 0.5, "huge": 1e300, "next": null, "data": [
+              {"id": 7, "email": "michael.lawson@reqres.in", "tags": ["a", "b"], "big": 10000000000},
+              {"id": 8, "email": "lindsay.ferguson@reqres.in", "tags": ["c"], "active": true},
+              {"id": 9, "tags": []}
+            ], "support": {"url": "https://reqres.in/#support-heading"}}""";
+
+    @Test
+    @DisplayName("Values match what GPath returns for the same expressions")
+    public void sameValuesAsGPath() {
+        JsonDocument json = JsonDocument.parse(PAGE);
+        JsonPath jsonPath = JsonPath.from(PAGE);
+
+        for (String path : List.of("page", "ratio", "huge", "next", "data.id", "data.email", "data[0].email", "data[-1].id",
+                "data.tags", "data[1].tags[0]", "data.id[1]", "support", "support.url", "missing", "data[5]")) {
+            Object expected = jsonPath.get(path);
+            Assertions.assertEquals(expected, json.get(path), path);
+        }
+    }
+
+    @Test
+    @DisplayName("Numbers, booleans and nulls are converted like JsonPath.get")
+    public void convertsScalars() {
+        JsonDocument json = JsonDocument.parse(PAGE);
+
+        Assertions.assertEquals(2, (int) json.get("page"));
+        Assertions.assertEquals(10_000_000_000L, (long) json.get("data[0].big"));
+        Assertions.assertEquals(0.5f, (float) json.get("ratio"));
+        Assertions.assertEquals(1e300, (double) json.get("huge"));
+        Assertions.assertEquals(Arrays.asList(null, true, null), json.get("data.active"));
+        Assertions.assertEquals(Map.of("url", "https://reqres.in/#support-heading"), json.get("support"));
+    }
+
+    @Test
+    @DisplayName("Expressions are compiled once and invalid ones are rejected")
+    public void compilesOnce() {
+        Assertions.assertSame(CompiledPath.of("data[0].email"), CompiledPath.of("data[0].email"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledPath.of("data..id"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledPath.of("data[x]"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledPath.of("data[0"));
+    }
+
+    @Test
+    @DisplayName("Body matcher checks every path and reports each one that fails")
+    public void bodyMatcher() {
+        MatcherAssert.assertThat(PAGE, jsonBody().with("page", equalTo(2)).with("data", hasSize(3)));
+
+        JsonBodyMatcher failing = jsonBody()
+                .with("page", equalTo(3))
+                .with("data[0].id", equalTo(7))
+                .with("support.url", equalTo("x"));
+        Assertions.assertFalse(failing.matches(PAGE));
+        StringDescription mismatch = new StringDescription();
+        failing.describeMismatch(PAGE, mismatch);
+        Assertions.assertTrue(mismatch.toString().contains("page"), mismatch.toString());
+        Assertions.assertTrue(mismatch.toString().contains("support.url"), mismatch.toString());
+        Assertions.assertFalse(mismatch.toString().contains("data[0].id"), mismatch.toString());
+        Assertions.assertFalse(failing.matches("not json"));
+    }
+}
@@ -0,0 +1,90 @@
+package reqres_api.path;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks several paths of a response body with one parse, as a drop-in for chained {@code body(path, matcher)}:
+ * <pre>
+ * .then().body(jsonBody()
+ *         .with("page", equalTo(2))
+ *         .with("data.year", everyItem(notNullValue())))
+ * </pre>
+ * Every failing path is reported, not only the first.
+ */
+public final class JsonBodyMatcher extends TypeSafeMatcher<String> {
+
+    private final List<Check> checks = new ArrayList<>();
+
+    private JsonBodyMatcher() {
+    }
+
+    public static JsonBodyMatcher jsonBody() {
+        return new JsonBodyMatcher();
+    }
+
+    public JsonBodyMatcher with(String path, Matcher<?> matcher) {
+        checks.add(new Check(CompiledPath.of(path), matcher));
+        return this;
+    }
+
+    @Override
+    protected boolean matchesSafely(String body) {
+        JsonNode root = parse(body);
+        if (root == null) {
+            return false;
+        }
+        for (Check check : checks) {
+            if (!check.matcher().matches(check.path().evaluate(root))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("JSON body with ");
+        for (int i = 0; i < checks.size(); i++) {
+            Check check = checks.get(i);
+            description.appendText(i == 0 ? "" : ", ")
+                    .appendText(check.path().expression()).appendText(" ")
+                    .appendDescriptionOf(check.matcher());
+        }
+    }
+
+    @Override
+    protected void describeMismatchSafely(String body, Description description) {
+        JsonNode root = parse(body);
+        if (root == null) {
+            description.appendText("body is not JSON");
+            return;
+        }
+        boolean first = true;
+        for (Check check : checks) {
+            Object value = check.path().evaluate(root);
+            if (!check.matcher().matches(value)) {
+                description.appendText(first ? "" : ", ").appendText(check.path().expression()).appendText(" ");
+                check.matcher().describeMismatch(value, description);
+                first = false;
+            }
+        }
+    }
+
+    private static JsonNode parse(String body) {
+        try {
+            return JsonDocument.MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private record Check(CompiledPath path, Matcher<?> matcher) {
+    }
+}
@@ -0,0 +1,59 @@
+package reqres_api.path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A response body parsed once into a Jackson tree and queried with {@link CompiledPath}s,
+ * in place of {@code response.jsonPath()} which hands every lookup to Groovy:
+ * <pre>
+ * JsonDocument json = JsonDocument.of(response);
+ * List&lt;Integer&gt; years = json.get("data.year");
+ * </pre>
+ */
+public final class JsonDocument {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode root;
+
+    private JsonDocument(JsonNode root) {
+        this.root = root;
+    }
+
+    public static JsonDocument of(Response response) {
+        return parse(response.asByteArray());
+    }
+
+    public static JsonDocument parse(byte[] json) {
+        try {
+            return new JsonDocument(MAPPER.readTree(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not JSON", e);
+        }
+    }
+
+    public static JsonDocument parse(String json) {
+        try {
+            return new JsonDocument(MAPPER.readTree(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not JSON", e);
+        }
+    }
+
+    /**
+     * The value at {@code path}, typed by the caller like {@code JsonPath.get}; {@code null} if missing.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path) {
+        return (T) CompiledPath.of(path).evaluate(root);
+    }
+
+    public JsonNode root() {
+        return root;
+    }
+}
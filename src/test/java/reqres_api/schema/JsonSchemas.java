@@ -0,0 +1,114 @@
+package reqres_api.schema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON schemas of the reqres payloads, loaded from {@code src/test/resources/schemas/<name>.json}.
+ * <p>
+ * Each schema is loaded and compiled once and cached for the JVM, so checking a whole response body
+ * is a single validation pass instead of one GPath evaluation per field:
+ * <pre>
+ * given().get(API + "/users?page=2").then().body(matchesSchema("users-page"));
+ * </pre>
+ * Available schemas: {@code user-data}, {@code color-data}, {@code successful-registration},
+ * {@code unsuccessful-registration}, {@code users-page} and {@code colors-page}.
+ */
+public final class JsonSchemas {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+    }
+
+    /**
+     * Matches a response body that is valid against the named schema.
+     */
+    public static Matcher<String> matchesSchema(String name) {
+        return new SchemaMatcher(name, schema(name));
+    }
+
+    /**
+     * Validates a parsed body and returns every violation.
+     */
+    public static List<String> violations(String name, JsonNode body) {
+        ProcessingReport report;
+        try {
+            report = schema(name).validate(body, true);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Could not validate against schema " + name, e);
+        }
+        List<String> violations = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            JsonNode pointer = message.asJson().path("instance").path("pointer");
+            violations.add((pointer.asText().isEmpty() ? "/" : pointer.asText()) + ": " + message.getMessage());
+        }
+        return violations;
+    }
+
+    static JsonSchema schema(String name) {
+        return SCHEMAS.computeIfAbsent(name, JsonSchemas::compile);
+    }
+
+    private static JsonSchema compile(String name) {
+        if (JsonSchemas.class.getClassLoader().getResource("schemas/" + name + ".json") == null) {
+            throw new IllegalArgumentException("Schema not found on the classpath: schemas/" + name + ".json");
+        }
+        try {
+            // loading by URI lets schemas refer to each other, e.g. "$ref": "user-data.json#"
+            return FACTORY.getJsonSchema("resource:/schemas/" + name + ".json");
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Invalid schema " + name, e);
+        }
+    }
+
+    private static final class SchemaMatcher extends TypeSafeMatcher<String> {
+
+        private final String name;
+        private final JsonSchema schema;
+
+        SchemaMatcher(String name, JsonSchema schema) {
+            this.name = name;
+            this.schema = schema;
+        }
+
+        @Override
+        protected boolean matchesSafely(String body) {
+            try {
+                return schema.validInstance(MAPPER.readTree(body));
+            } catch (JsonProcessingException | ProcessingException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a body valid against schema ").appendValue(name);
+        }
+
+        @Override
+        protected void describeMismatchSafely(String body, Description description) {
+            try {
+                description.appendText("violations ").appendValueList("[", ", ", "]", violations(name, MAPPER.readTree(body)));
+            } catch (JsonProcessingException e) {
+                description.appendText("not JSON: ").appendText(e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package reqres_api.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static reqres_api.schema.JsonSchemas.matchesSchema;
+
+public class JsonSchemasTest {
+
+    private static final String USER = """
+            {"id": 7, "email": "michael.lawson@reqres.in", "first_name": "Michael", "last_name": "Lawson",
+             "avatar": "https://reqres.in/img/faces/7-image.jpg"}""";
+
+    @Test
+    @DisplayName("Page of users is validated together with every user it contains")
+    public void validPage() {
+        String page = """
+                {"page": 2, "per_page": 6, "total": 12, "total_pages": 2, "data": [%s],
+                 "support": {"url": "https://reqres.in/#support-heading", "text": "x"}}""".formatted(USER);
+
+        MatcherAssert.assertThat(page, matchesSchema("users-page"));
+    }
+
+    @Test
+    @DisplayName("Every violation is reported with its location")
+    public void reportsViolations() throws Exception {
+        String broken = """
+                {"id": "7", "email": "lindsay@example.com", "first_name": "Lindsay", "last_name": "Ferguson"}""";
+
+        List<String> violations = JsonSchemas.violations("user-data", new ObjectMapper().readTree(broken));
+
+        Assertions.assertEquals(3, violations.size(), violations.toString());
+        Assertions.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/id:")), violations.toString());
+        Assertions.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/email:")), violations.toString());
+        Assertions.assertTrue(violations.stream().anyMatch(v -> v.contains("avatar")), violations.toString());
+
+        StringDescription mismatch = new StringDescription();
+        matchesSchema("user-data").describeMismatch(broken, mismatch);
+        Assertions.assertTrue(mismatch.toString().contains("/email"), mismatch.toString());
+    }
+
+    @Test
+    @DisplayName("Schemas are compiled once and reused")
+    public void cachesSchemas() {
+        Assertions.assertSame(JsonSchemas.schema("successful-registration"), JsonSchemas.schema("successful-registration"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonSchemas.schema("no-such-schema"));
+    }
+}
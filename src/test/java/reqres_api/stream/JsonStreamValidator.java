@@ -0,0 +1,137 @@
+package reqres_api.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Validates per-element rules over a top-level JSON array in a single streaming pass,
+ * e.g. the {@code data} array of a {@code /api/users} page.
+ * <p>
+ * Only the current element is held in memory, so large pages are checked without building a tree
+ * or extracting one list per field:
+ * <pre>{@code
+ * JsonStreamValidator.forEachElementOf("data")
+ *         .rule("avatar contains id", user -> user.text("avatar").contains(user.text("id")))
+ *         .assertValid(response.asInputStream());
+ * }</pre>
+ */
+public class JsonStreamValidator {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private final String arrayField;
+    private final Map<String, Predicate<StreamedElement>> rules = new LinkedHashMap<>();
+
+    private JsonStreamValidator(String arrayField) {
+        this.arrayField = arrayField;
+    }
+
+    public static JsonStreamValidator forEachElementOf(String arrayField) {
+        return new JsonStreamValidator(arrayField);
+    }
+
+    public JsonStreamValidator rule(String description, Predicate<StreamedElement> rule) {
+        rules.put(description, rule);
+        return this;
+    }
+
+    /**
+     * Validates the body and fails with every violation found (up to a limit) if any rule is broken.
+     *
+     * @return number of elements checked
+     */
+    public int assertValid(InputStream body) {
+        Result result = validate(body);
+        if (!result.arrayFound()) {
+            throw new AssertionError("No array '" + arrayField + "' in the response body");
+        }
+        if (result.violationCount() > 0) {
+            throw new AssertionError(result.violationCount() + " rule violation(s) in " + result.elements()
+                    + " element(s) of '" + arrayField + "':\n" + String.join("\n", result.violations()));
+        }
+        return result.elements();
+    }
+
+    public Result validate(InputStream body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new Result(false, 0, 0, List.of());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(arrayField) && value == JsonToken.START_ARRAY) {
+                    return validateArray(parser);
+                }
+                parser.skipChildren();
+            }
+            return new Result(false, 0, 0, List.of());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the response body", e);
+        }
+    }
+
+    private Result validateArray(JsonParser parser) throws IOException {
+        int index = 0;
+        int violationCount = 0;
+        List<String> violations = new ArrayList<>();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                index++;
+                continue;
+            }
+            // a map per element: rules may keep the element past their call
+            Map<String, String> fields = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue()) {
+                    fields.put(name, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            StreamedElement element = new StreamedElement(index, fields);
+            for (Map.Entry<String, Predicate<StreamedElement>> rule : rules.entrySet()) {
+                if (!holds(rule.getValue(), element)) {
+                    violationCount++;
+                    if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+                        violations.add("  " + rule.getKey() + ": " + element);
+                    }
+                }
+            }
+            index++;
+        }
+        return new Result(true, index, violationCount, violations);
+    }
+
+    private static boolean holds(Predicate<StreamedElement> rule, StreamedElement element) {
+        try {
+            return rule.test(element);
+        } catch (RuntimeException e) {
+            // e.g. a missing field the rule dereferences
+            return false;
+        }
+    }
+
+    /**
+     * Outcome of one pass: whether the array was found, how many elements it had and which rules they broke.
+     */
+    public record Result(boolean arrayFound, int elements, int violationCount, List<String> violations) {
+    }
+}
@@ -0,0 +1,58 @@
+package reqres_api.stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JsonStreamValidatorTest {
+
+    private static final String PAGE = """
+            {"page": 2, "support": {"url": "x"}, "data": [
+              {"id": 7, "email": "michael.lawson@reqres.in", "avatar": "https://reqres.in/img/faces/7-image.jpg", "tags": [1, 2]},
+              {"id": 8, "email": "lindsay@example.com", "avatar": "https://reqres.in/img/faces/9-image.jpg"},
+              {"id": 9, "email": null, "avatar": "https://reqres.in/img/faces/9-image.jpg"}
+            ]}""";
+
+    private final JsonStreamValidator validator = JsonStreamValidator.forEachElementOf("data")
+            .rule("avatar contains id", user -> user.text("avatar").contains(user.text("id")))
+            .rule("email ends with @reqres.in", user -> user.text("email").endsWith("@reqres.in"));
+
+    @Test
+    @DisplayName("Every broken rule is reported after a single pass")
+    public void reportsAllViolations() {
+        JsonStreamValidator.Result result = validator.validate(body(PAGE));
+
+        Assertions.assertTrue(result.arrayFound());
+        Assertions.assertEquals(3, result.elements());
+        Assertions.assertEquals(3, result.violationCount());
+        AssertionError error = Assertions.assertThrows(AssertionError.class, () -> validator.assertValid(body(PAGE)));
+        Assertions.assertTrue(error.getMessage().contains("#1"));
+        Assertions.assertTrue(error.getMessage().contains("#2"));
+    }
+
+    @Test
+    @DisplayName("Missing array fails the assertion")
+    public void missingArray() {
+        Assertions.assertThrows(AssertionError.class, () -> validator.assertValid(body("{\"page\": 1}")));
+    }
+
+    @Test
+    @DisplayName("Elements kept by a rule keep their own fields")
+    public void elementsOutliveTheirRule() {
+        List<StreamedElement> seen = new ArrayList<>();
+        JsonStreamValidator.forEachElementOf("data").rule("collect", seen::add).assertValid(body(PAGE));
+
+        Assertions.assertEquals(List.of("7", "8", "9"), seen.stream().map(user -> user.text("id")).toList());
+        Assertions.assertNull(seen.get(2).text("email"));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
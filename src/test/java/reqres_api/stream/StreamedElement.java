@@ -0,0 +1,35 @@
+package reqres_api.stream;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Scalar fields of one array element read by {@link JsonStreamValidator}; nested objects and arrays are skipped.
+ */
+public class StreamedElement {
+
+    private final int index;
+    private final Map<String, String> fields;
+
+    StreamedElement(int index, Map<String, String> fields) {
+        this.index = index;
+        // not Map.copyOf: JSON nulls are kept as null values
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Text of a scalar field ({@code "7"} for the number 7), or {@code null} when absent or JSON null.
+     */
+    public String text(String field) {
+        return fields.get(field);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " " + fields;
+    }
+}
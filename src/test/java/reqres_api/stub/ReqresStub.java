@@ -0,0 +1,342 @@
+package reqres_api.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.ApplicationConfig;
+import config.ConfigProvider;
+import reqres_api.color.ColorData;
+import reqres_api.user.UserData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-process stand-in for https://reqres.in/ serving the endpoints used by the API tests
+ * ({@code /api/users}, {@code /api/unknown}, {@code /api/register}, {@code /api/login})
+ * with the canned data from {@code stub/users.json} and {@code stub/colors.json}.
+ * <p>
+ * The server is started once per JVM on the first call to {@link #baseUrl()} when {@code stub = true}.
+ * The {@code delay} parameter is honoured without blocking a worker: the response is scheduled on a
+ * single timer thread, or with {@code stub.virtual.time = true} the {@link #clock()} is advanced instead.
+ */
+public final class ReqresStub {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String TOKEN = "QpwL5tke4Pnpja7X4";
+    private static final int PER_PAGE = 6;
+    private static final Map<String, String> SUPPORT = Map.of(
+            "url", "https://reqres.in/#support-heading",
+            "text", "To keep ReqRes free, contributions towards server costs are appreciated!"
+    );
+
+    private final HttpServer server;
+    private final List<UserData> users;
+    private final List<ColorData> colors;
+    private final AtomicInteger createdIds = new AtomicInteger(100);
+    private final ScheduledExecutorService delays;
+    private final Clock clock;
+
+    private ReqresStub(boolean virtualTime) {
+        clock = virtualTime ? new VirtualClock() : Clock.systemUTC();
+        users = load("stub/users.json", new TypeReference<>() {
+        });
+        colors = load("stub/colors.json", new TypeReference<>() {
+        });
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the reqres stub", e);
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "reqres-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Delayed responses are parked here instead of holding a worker thread for the whole delay
+        delays = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "reqres-stub-delays");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/api/", this::handle);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            workers.shutdownNow();
+            delays.shutdownNow();
+        }));
+    }
+
+    /**
+     * Base URL the API tests should call: the stub when {@code stub = true}, otherwise the configured {@code url}.
+     */
+    public static String baseUrl() {
+        ApplicationConfig config = ConfigProvider.getConfig();
+        return config.stub() ? Holder.INSTANCE.url() : config.url();
+    }
+
+    /**
+     * The stub itself, started on first use whatever {@code stub} says, e.g. for unit tests that need fixed data.
+     */
+    public static ReqresStub local() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Clock to measure response times against: a {@link VirtualClock} moved forward by simulated delays
+     * when {@code stub.virtual.time = true}, the system clock otherwise (including live runs).
+     */
+    public static Clock clock() {
+        return ConfigProvider.getConfig().stub() ? Holder.INSTANCE.clock : Clock.systemUTC();
+    }
+
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        StubResponse response;
+        long delay = 0;
+        try {
+            // reqres' delay query parameter, in seconds
+            String value = parseQuery(exchange.getRequestURI().getRawQuery()).get("delay");
+            delay = value == null ? 0 : Long.parseLong(value);
+            response = delay < 0 ? StubResponse.error("delay must not be negative") : route(exchange);
+        } catch (NumberFormatException e) {
+            delay = 0;
+            response = StubResponse.error("Invalid number: " + e.getMessage());
+        } catch (RuntimeException e) {
+            delay = 0;
+            response = new StubResponse(500, Map.of("error", String.valueOf(e.getMessage())));
+        }
+
+        if (delay == 0) {
+            send(exchange, response);
+        } else if (clock instanceof VirtualClock virtualClock) {
+            virtualClock.advance(Duration.ofSeconds(delay));
+            send(exchange, response);
+        } else {
+            StubResponse delayed = response;
+            delays.schedule(() -> sendQuietly(exchange, delayed), delay, TimeUnit.SECONDS);
+        }
+    }
+
+    private StubResponse route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String resource = path[0];
+        Optional<Integer> id = path.length > 1 ? parseId(path[1]) : Optional.empty();
+
+        switch (resource) {
+            case "users":
+                if (path.length == 1) {
+                    return switch (method) {
+                        case "GET" -> page(users, query);
+                        case "POST" -> created(readBody(exchange));
+                        default -> StubResponse.notFound();
+                    };
+                }
+                return switch (method) {
+                    case "GET" -> single(users, id, UserData::getId);
+                    case "PUT", "PATCH" -> updated(readBody(exchange));
+                    case "DELETE" -> new StubResponse(204, null);
+                    default -> StubResponse.notFound();
+                };
+            case "unknown":
+                if (!"GET".equals(method)) {
+                    return StubResponse.notFound();
+                }
+                return path.length == 1 ? page(colors, query) : single(colors, id, ColorData::getId);
+            case "register":
+                return "POST".equals(method) ? register(readBody(exchange)) : StubResponse.notFound();
+            case "login":
+                return "POST".equals(method) ? login(readBody(exchange)) : StubResponse.notFound();
+            default:
+                return StubResponse.notFound();
+        }
+    }
+
+    private StubResponse page(List<?> items, Map<String, String> query) {
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", String.valueOf(PER_PAGE)));
+        if (page < 1 || perPage < 1) {
+            return StubResponse.error("page and per_page must be positive");
+        }
+        int from = Math.min((page - 1) * perPage, items.size());
+        int to = Math.min(from + perPage, items.size());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("page", page);
+        body.put("per_page", perPage);
+        body.put("total", items.size());
+        body.put("total_pages", (items.size() + perPage - 1) / perPage);
+        body.put("data", items.subList(from, to));
+        body.put("support", SUPPORT);
+        return new StubResponse(200, body);
+    }
+
+    private <T> StubResponse single(List<T> items, Optional<Integer> id, Function<T, Integer> idOf) {
+        return id.flatMap(value -> items.stream().filter(item -> value.equals(idOf.apply(item))).findFirst())
+                .map(item -> new StubResponse(200, Map.of("data", item, "support", SUPPORT)))
+                .orElseGet(StubResponse::notFound);
+    }
+
+    private StubResponse created(Map<String, Object> request) {
+        Map<String, Object> body = new LinkedHashMap<>(request);
+        body.put("id", String.valueOf(createdIds.incrementAndGet()));
+        body.put("createdAt", now());
+        return new StubResponse(201, body);
+    }
+
+    private StubResponse updated(Map<String, Object> request) {
+        Map<String, Object> body = new LinkedHashMap<>(request);
+        body.put("updatedAt", now());
+        return new StubResponse(200, body);
+    }
+
+    private StubResponse register(Map<String, Object> request) {
+        Optional<StubResponse> error = validateCredentials(request);
+        if (error.isPresent()) {
+            return error.get();
+        }
+        return findUser(request)
+                .map(user -> new StubResponse(200, Map.of("id", user.getId(), "token", TOKEN)))
+                .orElseGet(() -> StubResponse.error("Note: Only defined users succeed registration"));
+    }
+
+    private StubResponse login(Map<String, Object> request) {
+        Optional<StubResponse> error = validateCredentials(request);
+        if (error.isPresent()) {
+            return error.get();
+        }
+        return findUser(request)
+                .map(user -> new StubResponse(200, Map.of("token", TOKEN)))
+                .orElseGet(() -> StubResponse.error("user not found"));
+    }
+
+    private static Optional<StubResponse> validateCredentials(Map<String, Object> request) {
+        if (isBlank(request.get("email")) && isBlank(request.get("username"))) {
+            return Optional.of(StubResponse.error("Missing email or username"));
+        }
+        if (isBlank(request.get("password"))) {
+            return Optional.of(StubResponse.error("Missing password"));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<UserData> findUser(Map<String, Object> request) {
+        return users.stream().filter(user -> user.getEmail().equals(request.get("email"))).findFirst();
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response) throws IOException {
+        try (exchange) {
+            if (response.body() == null) {
+                exchange.sendResponseHeaders(response.status(), -1);
+                return;
+            }
+            byte[] bytes = MAPPER.writeValueAsBytes(response.body());
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static void sendQuietly(HttpExchange exchange, StubResponse response) {
+        try {
+            send(exchange, response);
+        } catch (IOException e) {
+            // the client gave up waiting, nothing left to answer
+        }
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0 ? new HashMap<>() : MAPPER.readValue(bytes, new TypeReference<>() {
+            });
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static Optional<Integer> parseId(String segment) {
+        try {
+            return Optional.of(Integer.parseInt(segment));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || value.toString().isBlank();
+    }
+
+    private static String now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS).toString();
+    }
+
+    private static <T> T load(String resource, TypeReference<T> type) {
+        try (InputStream in = ReqresStub.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Stub data not found on the classpath: " + resource);
+            }
+            return MAPPER.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read stub data " + resource, e);
+        }
+    }
+
+    private record StubResponse(int status, Object body) {
+
+        static StubResponse notFound() {
+            return new StubResponse(404, Map.of());
+        }
+
+        static StubResponse error(String message) {
+            return new StubResponse(400, Map.of("error", message));
+        }
+    }
+
+    private static final class Holder {
+        private static final ReqresStub INSTANCE = new ReqresStub(ConfigProvider.getConfig().stubVirtualTime());
+    }
+}
@@ -0,0 +1,51 @@
+package reqres_api.stub;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clock that follows the system clock but can be moved forward on demand.
+ * The stub advances it instead of sleeping, so latency assertions stay meaningful without waiting.
+ */
+public class VirtualClock extends Clock {
+
+    private final AtomicLong offsetMillis;
+    private final ZoneId zone;
+
+    public VirtualClock() {
+        this(new AtomicLong(), ZoneOffset.UTC);
+    }
+
+    private VirtualClock(AtomicLong offsetMillis, ZoneId zone) {
+        this.offsetMillis = offsetMillis;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        offsetMillis.addAndGet(duration.toMillis());
+    }
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis() + offsetMillis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new VirtualClock(offsetMillis, zone);
+    }
+}
@@ -0,0 +1,165 @@
+// Behaviour of the demoqa practice form, reimplemented without React for the offline replica.
+// Element ids, class names and the result modal match https://demoqa.com/automation-practice-form.
+(function () {
+    'use strict';
+
+    const MONTHS = ['January', 'February', 'March', 'April', 'May', 'June', 'July',
+        'August', 'September', 'October', 'November', 'December'];
+    const SUBJECTS = ['Hindi', 'English', 'Maths', 'Physics', 'Chemistry', 'Biology', 'Computer Science',
+        'Commerce', 'Accounting', 'Economics', 'Arts', 'Social Studies', 'History', 'Civics'];
+    const CITIES = {
+        'NCR': ['Delhi', 'Gurgaon', 'Noida'],
+        'Uttar Pradesh': ['Agra', 'Lucknow', 'Merrut'],
+        'Haryana': ['Karnal', 'Panipat'],
+        'Rajasthan': ['Jaipur', 'Jaiselmer']
+    };
+
+    const form = document.getElementById('userForm');
+    const modal = document.querySelector('.modal');
+    const selected = {date: new Date(), subjects: [], state: null, city: null};
+
+    // Date of birth: month/year selects and a grid of days of the chosen month
+    const dateInput = document.getElementById('dateOfBirthInput');
+    const popper = document.querySelector('.react-datepicker-popper');
+    const monthSelect = document.querySelector('.react-datepicker__month-select');
+    const yearSelect = document.querySelector('.react-datepicker__year-select');
+    const days = document.querySelector('.react-datepicker__month');
+
+    MONTHS.forEach((name, index) => monthSelect.add(new Option(name, String(index))));
+    for (let year = 1900; year <= 2100; year++) {
+        yearSelect.add(new Option(String(year), String(year)));
+    }
+
+    function pad(number) {
+        return String(number).padStart(2, '0');
+    }
+
+    function formatDate(date) {
+        return pad(date.getDate()) + ' ' + MONTHS[date.getMonth()].substring(0, 3) + ' ' + date.getFullYear();
+    }
+
+    function renderDays() {
+        const year = Number(yearSelect.value);
+        const month = Number(monthSelect.value);
+        const count = new Date(year, month + 1, 0).getDate();
+        days.replaceChildren();
+        for (let day = 1; day <= count; day++) {
+            const cell = document.createElement('div');
+            cell.className = 'react-datepicker__day react-datepicker__day--0' + pad(day);
+            cell.setAttribute('role', 'option');
+            cell.textContent = String(day);
+            cell.addEventListener('click', () => {
+                selected.date = new Date(year, month, day);
+                dateInput.value = formatDate(selected.date);
+                popper.hidden = true;
+            });
+            days.appendChild(cell);
+        }
+    }
+
+    dateInput.value = formatDate(selected.date);
+    dateInput.addEventListener('click', () => {
+        monthSelect.value = String(selected.date.getMonth());
+        yearSelect.value = String(selected.date.getFullYear());
+        renderDays();
+        popper.hidden = false;
+    });
+    monthSelect.addEventListener('change', renderDays);
+    yearSelect.addEventListener('change', renderDays);
+
+    // Subjects: Enter picks the first subject containing the typed text
+    const subjectsInput = document.getElementById('subjectsInput');
+    const subjectValues = document.querySelector('.subjects-auto-complete__value-container');
+
+    subjectsInput.addEventListener('keydown', event => {
+        if (event.key !== 'Enter') {
+            return;
+        }
+        event.preventDefault();
+        const typed = subjectsInput.value.trim().toLowerCase();
+        const subject = SUBJECTS.find(name => typed && name.toLowerCase().includes(typed));
+        if (subject && !selected.subjects.includes(subject)) {
+            selected.subjects.push(subject);
+            const chip = document.createElement('div');
+            chip.className = 'subjects-auto-complete__multi-value';
+            chip.textContent = subject;
+            subjectValues.appendChild(chip);
+        }
+        subjectsInput.value = '';
+    });
+
+    // State and city: Enter picks the first matching option, cities depend on the state
+    const stateInput = document.getElementById('react-select-3-input');
+    const cityInput = document.getElementById('react-select-4-input');
+
+    function selectOnEnter(input, options, onSelect) {
+        input.addEventListener('keydown', event => {
+            if (event.key !== 'Enter') {
+                return;
+            }
+            event.preventDefault();
+            const typed = input.value.trim().toLowerCase();
+            const option = options().find(name => name.toLowerCase().includes(typed));
+            input.value = '';
+            if (option) {
+                input.previousElementSibling.textContent = option;
+                onSelect(option);
+            }
+        });
+    }
+
+    selectOnEnter(stateInput, () => Object.keys(CITIES), state => {
+        selected.state = state;
+        selected.city = null;
+        cityInput.previousElementSibling.textContent = 'Select City';
+        cityInput.disabled = false;
+    });
+    selectOnEnter(cityInput, () => CITIES[selected.state] || [], city => selected.city = city);
+
+    // Submit: the same required fields as demoqa, then the result modal
+    function checked(selector) {
+        return Array.from(document.querySelectorAll(selector))
+            .filter(input => input.checked)
+            .map(input => document.querySelector('label[for="' + input.id + '"]').textContent);
+    }
+
+    function row(label, value) {
+        const tr = document.createElement('tr');
+        [label, value].forEach(text => {
+            const td = document.createElement('td');
+            td.textContent = text;
+            tr.appendChild(td);
+        });
+        return tr;
+    }
+
+    form.addEventListener('submit', event => {
+        event.preventDefault();
+        form.classList.add('was-validated');
+        const number = document.getElementById('userNumber').value;
+        if (!form.checkValidity() || !/^\d{10}$/.test(number)) {
+            return;
+        }
+        const picture = document.getElementById('uploadPicture').files[0];
+        const date = selected.date;
+        document.querySelector('.table-responsive tbody').replaceChildren(
+            row('Student Name', document.getElementById('firstName').value + ' ' + document.getElementById('lastName').value),
+            row('Student Email', document.getElementById('userEmail').value),
+            row('Gender', checked('#genterWrapper input').join('')),
+            row('Mobile', number),
+            row('Date of Birth', pad(date.getDate()) + ' ' + MONTHS[date.getMonth()] + ',' + date.getFullYear()),
+            row('Subjects', selected.subjects.join(', ')),
+            row('Hobbies', checked('#hobbiesWrapper input').join(', ')),
+            row('Picture', picture ? picture.name : ''),
+            row('Address', document.getElementById('currentAddress').value),
+            row('State and City', [selected.state, selected.city].filter(Boolean).join(' '))
+        );
+        modal.hidden = false;
+    });
+
+    document.getElementById('closeLargeModal').addEventListener('click', () => {
+        modal.hidden = true;
+        form.reset();
+        form.classList.remove('was-validated');
+    });
+})();